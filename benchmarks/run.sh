@@ -0,0 +1,39 @@
+#!/usr/bin/env bash
+# Runs the JMH benchmarks with the allocation profiler and stores the results under
+# benchmarks/results/<commit>.json, so runs of different commits can be compared:
+#
+#   benchmarks/run.sh                       # all benchmarks
+#   benchmarks/run.sh Dispatcher            # only benchmarks matching a regex
+#   benchmarks/run.sh --compare <base> <candidate>
+#   benchmarks/run.sh --startup [runs]      # cold start with and without an AppCDS archive
+#   benchmarks/run.sh --cluster [nodes] [limit] [seconds]  # cluster rate limiting on loopback
+set -euo pipefail
+
+cd "$(dirname "$0")"
+JAR=target/benchmarks.jar
+
+if [[ "${1:-}" == "--startup" ]]; then
+  rm -f target/startup.jsa
+  java -cp "$JAR" com.jFastApi.benchmark.StartupBenchmark "${2:-10}" target/startup.jsa
+  exit 0
+fi
+
+if [[ "${1:-}" == "--cluster" ]]; then
+  shift
+  java -cp "$JAR" com.jFastApi.security.RateLimitClusterCheck "$@"
+  exit 0
+fi
+
+if [[ "${1:-}" == "--compare" ]]; then
+  java -cp "$JAR" com.jFastApi.benchmark.BenchmarkComparison "results/$2.json" "results/$3.json"
+  exit 0
+fi
+
+COMMIT=$(git rev-parse --short HEAD)
+if [[ -n "$(git status --porcelain -- ../src)" ]]; then
+  COMMIT="$COMMIT-dirty"
+fi
+
+mkdir -p results
+java -jar "$JAR" -prof gc -rf json -rff "results/$COMMIT.json" "$@"
+echo "Results written to benchmarks/results/$COMMIT.json"
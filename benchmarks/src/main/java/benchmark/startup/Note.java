@@ -0,0 +1,30 @@
+package benchmark.startup;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+
+/**
+ * Entity so startup includes building a Hibernate metamodel.
+ */
+@Entity
+public class Note {
+
+    @Id
+    @GeneratedValue
+    private Long id;
+
+    private String text;
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public void setText(String text) {
+        this.text = text;
+    }
+}
@@ -0,0 +1,16 @@
+package benchmark.startup;
+
+import com.jFastApi.JFastApiApplication;
+
+/**
+ * Small application started by {@link com.jFastApi.benchmark.StartupBenchmark}.
+ * <p>
+ * Lives outside {@code com.jFastApi} so it is scanned as an application package, not as
+ * part of the framework.
+ */
+public class StartupApplication {
+
+    public static void main(String[] args) {
+        JFastApiApplication.run(StartupApplication.class);
+    }
+}
@@ -0,0 +1,46 @@
+package benchmark.startup;
+
+import com.jFastApi.annotation.Bean;
+import com.jFastApi.annotation.HttpRoute;
+import com.jFastApi.annotation.RequestBody;
+import com.jFastApi.benchmark.Item;
+import com.jFastApi.db.HibernateRepository;
+import com.jFastApi.enumeration.HttpMethod;
+import com.jFastApi.enumeration.HttpStatus;
+import com.jFastApi.http.Response;
+
+import java.util.List;
+
+/**
+ * Routes of the startup benchmark application; {@code /startup/ping} is polled for readiness.
+ */
+@Bean
+public class StartupController {
+
+    private final HibernateRepository<Note, Long> notes = new HibernateRepository<>(Note.class);
+
+    @HttpRoute(path = "/startup/ping", authorized = false, disableRateLimiter = true)
+    public Response<Item> ping() {
+        return new Response.Builder<Item>()
+                .body(Item.sample())
+                .status(HttpStatus.OK)
+                .build();
+    }
+
+    @HttpRoute(path = "/startup/notes", authorized = false, disableRateLimiter = true)
+    public Response<List<Note>> notes() {
+        return new Response.Builder<List<Note>>()
+                .body(notes.findAll())
+                .status(HttpStatus.OK)
+                .build();
+    }
+
+    @HttpRoute(path = "/startup/notes", method = HttpMethod.POST, authorized = false, disableRateLimiter = true)
+    public Response<Note> save(@RequestBody Note note) {
+        notes.save(note);
+        return new Response.Builder<Note>()
+                .body(note)
+                .status(HttpStatus.CREATED)
+                .build();
+    }
+}
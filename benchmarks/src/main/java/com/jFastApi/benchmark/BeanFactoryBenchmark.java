@@ -0,0 +1,35 @@
+package com.jFastApi.benchmark;
+
+import com.jFastApi.BeanFactory;
+import com.jFastApi.http.BenchmarkRoutes;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BeanFactoryBenchmark {
+
+    @Setup
+    public void setup() {
+        BenchmarkRoutes.register();
+    }
+
+    /**
+     * Singleton lookup, as done by the dispatcher for every request.
+     */
+    @Benchmark
+    public BenchmarkController getBeanInstance() {
+        return BeanFactory.getBeanInstance(BenchmarkController.class);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public BenchmarkController getBeanInstanceContended() {
+        return BeanFactory.getBeanInstance(BenchmarkController.class);
+    }
+}
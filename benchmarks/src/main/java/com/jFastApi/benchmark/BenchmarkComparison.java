@@ -0,0 +1,92 @@
+package com.jFastApi.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares two JMH JSON result files (e.g. two commits) benchmark by benchmark.
+ * <p>
+ * Usage: {@code java -cp benchmarks.jar com.jFastApi.benchmark.BenchmarkComparison base.json candidate.json}
+ * <p>
+ * Prints the primary score, its relative change and, when the runs used {@code -prof gc},
+ * the allocated bytes per operation.
+ */
+public final class BenchmarkComparison {
+
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+
+    private BenchmarkComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: BenchmarkComparison <base.json> <candidate.json>");
+            System.exit(2);
+        }
+
+        Map<String, JsonNode> base = load(new File(args[0]));
+        Map<String, JsonNode> candidate = load(new File(args[1]));
+
+        System.out.printf("%-70s %14s %14s %9s %12s %12s%n", "Benchmark", "Base", "Candidate", "Change", "B/op base", "B/op cand");
+
+        for (Map.Entry<String, JsonNode> entry : candidate.entrySet()) {
+            JsonNode before = base.get(entry.getKey());
+            JsonNode after = entry.getValue();
+
+            double afterScore = after.path("primaryMetric").path("score").asDouble();
+            String unit = after.path("primaryMetric").path("scoreUnit").asText();
+
+            if (before == null) {
+                System.out.printf("%-70s %14s %14s %9s %12s %12s%n", entry.getKey(), "-",
+                        format(afterScore, unit), "new", "-", allocation(after));
+                continue;
+            }
+
+            double beforeScore = before.path("primaryMetric").path("score").asDouble();
+            double change = beforeScore == 0 ? 0 : (afterScore - beforeScore) / beforeScore * 100;
+
+            System.out.printf("%-70s %14s %14s %+8.1f%% %12s %12s%n", entry.getKey(),
+                    format(beforeScore, unit), format(afterScore, unit), change, allocation(before), allocation(after));
+        }
+
+        for (String removed : base.keySet()) {
+            if (!candidate.containsKey(removed)) {
+                System.out.printf("%-70s %14s%n", removed, "removed");
+            }
+        }
+    }
+
+    // benchmark name + parameters -> result
+    private static Map<String, JsonNode> load(File file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText().replace("com.jFastApi.", ""));
+            JsonNode params = result.path("params");
+            for (Iterator<Map.Entry<String, JsonNode>> it = params.fields(); it.hasNext(); ) {
+                Map.Entry<String, JsonNode> param = it.next();
+                key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            String threads = result.path("threads").asText("1");
+            if (!"1".equals(threads)) {
+                key.append(" threads=").append(threads);
+            }
+            results.put(key.toString(), result);
+        }
+        return results;
+    }
+
+    private static String allocation(JsonNode result) {
+        JsonNode allocation = result.path("secondaryMetrics").path(ALLOCATION);
+        return allocation.isMissingNode() ? "-" : String.format("%.0f", allocation.path("score").asDouble());
+    }
+
+    private static String format(double score, String unit) {
+        return String.format("%.2f %s", score, unit.replace("/op", ""));
+    }
+}
@@ -0,0 +1,35 @@
+package com.jFastApi.benchmark;
+
+import com.jFastApi.annotation.Bean;
+import com.jFastApi.annotation.HttpRoute;
+import com.jFastApi.annotation.RequestBody;
+import com.jFastApi.annotation.RequestParam;
+import com.jFastApi.enumeration.HttpMethod;
+import com.jFastApi.enumeration.HttpStatus;
+import com.jFastApi.http.Response;
+
+/**
+ * Minimal controller, so the benchmarks measure the framework rather than application code.
+ */
+@Bean
+public class BenchmarkController {
+
+    private static final Item ITEM = Item.sample();
+
+    @HttpRoute(path = "/bench/item", authorized = false, disableRateLimiter = true)
+    public Response<Item> find(@RequestParam(name = "id") long id,
+                               @RequestParam(name = "name", required = false) String name) {
+        return new Response.Builder<Item>()
+                .body(ITEM)
+                .status(HttpStatus.OK)
+                .build();
+    }
+
+    @HttpRoute(path = "/bench/item", method = HttpMethod.POST, authorized = false, disableRateLimiter = true)
+    public Response<Item> save(@RequestBody Item item) {
+        return new Response.Builder<Item>()
+                .body(item)
+                .status(HttpStatus.CREATED)
+                .build();
+    }
+}
@@ -0,0 +1,14 @@
+package com.jFastApi.benchmark;
+
+import java.util.List;
+
+/**
+ * Representative request/response body used by the benchmarks.
+ */
+public record Item(long id, String name, String description, double price, boolean available, List<String> tags) {
+
+    public static Item sample() {
+        return new Item(42L, "Mechanical keyboard", "Tenkeyless, hot-swappable switches, PBT keycaps",
+                129.90, true, List.of("peripherals", "keyboards", "mechanical"));
+    }
+}
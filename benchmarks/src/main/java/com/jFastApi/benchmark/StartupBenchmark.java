@@ -0,0 +1,111 @@
+package com.jFastApi.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures cold start time with and without an AppCDS archive.
+ * <p>
+ * Usage: {@code java -cp benchmarks.jar com.jFastApi.benchmark.StartupBenchmark [runs] [archive]}
+ * <p>
+ * Trains the archive first if it does not exist, then alternately starts the
+ * {@code benchmark.startup} application in a fresh JVM with and without it. Startup time is
+ * measured from launching the JVM to the first successful response of {@code /startup/ping},
+ * i.e. including JVM boot and the database. JMH is not used: it measures warmed-up code.
+ */
+public final class StartupBenchmark {
+
+    private static final String APPLICATION = "benchmark.startup.StartupApplication";
+    private static final int PORT = 18085;
+    private static final Duration READY_TIMEOUT = Duration.ofSeconds(60);
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        Path archive = Path.of(args.length > 1 ? args[1] : "target/startup.jsa");
+        String classPath = System.getProperty("java.class.path");
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+
+        if (!Files.exists(archive)) {
+            System.out.println("Training " + archive + " ...");
+            Process training = new ProcessBuilder(java, "-XX:ArchiveClassesAtExit=" + archive,
+                    "-Dapp.cds.training=true", "-Dport.number=" + PORT, "-cp", classPath, APPLICATION)
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            if (training.waitFor() != 0 || !Files.exists(archive)) {
+                System.err.println("Training run failed with exit code " + training.exitValue());
+                System.exit(1);
+            }
+        }
+
+        List<Long> withoutArchive = new ArrayList<>();
+        List<Long> withArchive = new ArrayList<>();
+
+        try (HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build()) {
+            // Alternate, so both modes see the same machine conditions
+            for (int i = 0; i < runs; i++) {
+                withoutArchive.add(measure(client, List.of(java, "-Dport.number=" + PORT, "-cp", classPath, APPLICATION)));
+                withArchive.add(measure(client, List.of(java, "-XX:SharedArchiveFile=" + archive,
+                        "-Dport.number=" + PORT, "-cp", classPath, APPLICATION)));
+            }
+        }
+
+        System.out.printf("%-16s %10s %10s %10s%n", "Startup (ms)", "min", "median", "max");
+        print("default CDS", withoutArchive);
+        print("AppCDS", withArchive);
+        System.out.printf("Median improvement: %.1f%%%n",
+                100.0 * (median(withoutArchive) - median(withArchive)) / median(withoutArchive));
+    }
+
+    private static long measure(HttpClient client, List<String> command) throws IOException, InterruptedException {
+        HttpRequest ping = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + PORT + "/startup/ping"))
+                .timeout(Duration.ofSeconds(1))
+                .build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            while (System.nanoTime() - start < READY_TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Application exited with code " + process.exitValue());
+                }
+                try {
+                    if (client.send(ping, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return (System.nanoTime() - start) / 1_000_000;
+                    }
+                } catch (IOException notListeningYet) {
+                    // keep polling
+                }
+                Thread.sleep(5);
+            }
+            throw new IllegalStateException("Application not ready within " + READY_TIMEOUT);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static void print(String label, List<Long> samples) {
+        List<Long> sorted = samples.stream().sorted().toList();
+        System.out.printf("%-16s %10d %10d %10d%n", label, sorted.getFirst(), median(samples), sorted.getLast());
+    }
+
+    private static long median(List<Long> samples) {
+        List<Long> sorted = samples.stream().sorted().toList();
+        return sorted.get(sorted.size() / 2);
+    }
+}
@@ -0,0 +1,29 @@
+package com.jFastApi.http;
+
+import com.jFastApi.BeanFactory;
+import com.jFastApi.benchmark.BenchmarkController;
+
+import java.util.Arrays;
+
+/**
+ * Registers the benchmark controller the way the framework does at startup.
+ * <p>
+ * Classpath scanning does not see classes inside the shaded benchmarks jar, so the
+ * controller bean and its routes are registered directly, once per JVM.
+ */
+public final class BenchmarkRoutes {
+
+    private BenchmarkRoutes() {
+    }
+
+    private static boolean registered;
+
+    public static synchronized void register() {
+        if (registered) {
+            return;
+        }
+        BeanFactory.register(BenchmarkController.class, new BenchmarkController());
+        RouteScanner.registerRoutes(Arrays.asList(BenchmarkController.class.getDeclaredMethods()));
+        registered = true;
+    }
+}
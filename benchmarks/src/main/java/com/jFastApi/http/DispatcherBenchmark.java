@@ -0,0 +1,66 @@
+package com.jFastApi.http;
+
+import com.jFastApi.benchmark.Item;
+import com.jFastApi.util.JsonUtility;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The whole dispatcher path through {@link InProcessClient}: route lookup, interceptors,
+ * parameter binding, handler invocation, response encoding, access log and metrics.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DispatcherBenchmark {
+
+    private InProcessClient client;
+    private InMemoryHttpExchange get;
+    private InMemoryHttpExchange post;
+    private InMemoryHttpExchange notFound;
+
+    @Setup
+    public void setup() throws IOException {
+        BenchmarkRoutes.register();
+        client = InProcessClient.attach();
+        get = new InMemoryHttpExchange("GET", "/bench/item?id=42&name=keyboard", null, null);
+        post = new InMemoryHttpExchange("POST", "/bench/item",
+                Map.of("Content-Type", "application/json"), JsonUtility.toJsonBytes(Item.sample()));
+        notFound = new InMemoryHttpExchange("GET", "/bench/missing", null, null);
+    }
+
+    @Benchmark
+    public int getWithQuery() {
+        get.reset();
+        client.dispatch(get);
+        return get.getResponseSize();
+    }
+
+    @Benchmark
+    public int postJson() {
+        post.reset();
+        client.dispatch(post);
+        return post.getResponseSize();
+    }
+
+    @Benchmark
+    public int notFound() {
+        notFound.reset();
+        client.dispatch(notFound);
+        return notFound.getResponseSize();
+    }
+
+    /**
+     * Convenience API, including the per-call exchange and response copies.
+     */
+    @Benchmark
+    public InProcessResponse clientGet() {
+        return client.get("/bench/item?id=42&name=keyboard");
+    }
+}
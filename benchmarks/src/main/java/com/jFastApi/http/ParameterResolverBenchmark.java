@@ -0,0 +1,47 @@
+package com.jFastApi.http;
+
+import com.jFastApi.benchmark.Item;
+import com.jFastApi.enumeration.HttpMethod;
+import com.jFastApi.util.JsonUtility;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParameterResolverBenchmark {
+
+    private Route queryRoute;
+    private Route bodyRoute;
+    private InMemoryHttpExchange queryExchange;
+    private InMemoryHttpExchange bodyExchange;
+
+    @Setup
+    public void setup() throws IOException {
+        BenchmarkRoutes.register();
+        queryRoute = RouteRegistry.find("/bench/item", HttpMethod.GET);
+        bodyRoute = RouteRegistry.find("/bench/item", HttpMethod.POST);
+
+        queryExchange = new InMemoryHttpExchange("GET", "/bench/item?id=42&name=keyboard", null, null);
+        bodyExchange = new InMemoryHttpExchange("POST", "/bench/item",
+                Map.of("Content-Type", "application/json"), JsonUtility.toJsonBytes(Item.sample()));
+    }
+
+    @Benchmark
+    public Object[] queryParams() throws IOException {
+        queryExchange.reset();
+        return ParameterResolver.resolve(queryExchange, queryRoute);
+    }
+
+    @Benchmark
+    public Object[] jsonBody() throws IOException {
+        bodyExchange.reset();
+        return ParameterResolver.resolve(bodyExchange, bodyRoute);
+    }
+}
@@ -0,0 +1,35 @@
+package com.jFastApi.http;
+
+import com.jFastApi.enumeration.HttpMethod;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RouteRegistryBenchmark {
+
+    @Setup
+    public void setup() {
+        BenchmarkRoutes.register();
+    }
+
+    @Benchmark
+    public Route findHit() {
+        return RouteRegistry.find("/bench/item", HttpMethod.GET);
+    }
+
+    @Benchmark
+    public Route findMethodMiss() {
+        return RouteRegistry.find("/bench/item", HttpMethod.DELETE);
+    }
+
+    @Benchmark
+    public boolean hasPathMiss() {
+        return RouteRegistry.hasPath("/bench/missing");
+    }
+}
@@ -0,0 +1,55 @@
+package com.jFastApi.security;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApiRateLimiterBenchmark {
+
+    private static final int KEYS = 1024;
+
+    // High enough that permits are always granted: only the bookkeeping is measured
+    private static final int LIMIT = 1_000_000_000;
+    private static final RateLimitPolicy POLICY = new RateLimitPolicy(LIMIT, Duration.ofSeconds(1));
+
+    private ApiRateLimiter rateLimiter;
+    private String[] keys;
+
+    @Setup
+    public void setup() {
+        rateLimiter = new ApiRateLimiter();
+        keys = new String[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = "10.0.%d.%d".formatted(i / 256, i % 256);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Benchmark
+    public RateLimitDecision singleKey() {
+        return rateLimiter.acquire(POLICY, keys[0]);
+    }
+
+    @Benchmark
+    public RateLimitDecision rotatingKeys(Cursor cursor) {
+        String key = keys[cursor.next++ & (KEYS - 1)];
+        return rateLimiter.acquire(POLICY, key);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public RateLimitDecision singleKeyContended() {
+        return rateLimiter.acquire(POLICY, keys[0]);
+    }
+}
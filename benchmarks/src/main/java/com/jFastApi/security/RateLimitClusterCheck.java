@@ -0,0 +1,94 @@
+package com.jFastApi.security;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks cluster rate limiting with several nodes gossiping on loopback, in one JVM.
+ * <p>
+ * Usage: {@code java -cp benchmarks.jar com.jFastApi.security.RateLimitClusterCheck [nodes] [limit] [seconds]}
+ * <p>
+ * Each node is an {@link ApiRateLimiter} with its own {@link RateLimitCluster} bound to
+ * {@code 127.0.0.1}, and every node lists all nodes (itself included) as peers, as the README
+ * recommends. One client sends a steady 5,000 requests per second for a route limited to
+ * {@code limit} per second, first spread evenly over the nodes, then to a single node. The
+ * admitted rate should stay close to the limit in both cases: the first second also includes
+ * each bucket's initial burst, and the single-node run is bounded by that node's share (at most
+ * 90% plus its even part).
+ */
+public final class RateLimitClusterCheck {
+
+    private static final int FIRST_PORT = 17_001;
+    private static final long REQUEST_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1) / 5_000;
+    private static final Duration SYNC_INTERVAL = Duration.ofMillis(100);
+    private static final Duration PEER_TIMEOUT = Duration.ofSeconds(1);
+
+    private RateLimitClusterCheck() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int nodes = args.length > 0 ? Integer.parseInt(args[0]) : 3;
+        int limit = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+
+        List<InetSocketAddress> addresses = new ArrayList<>();
+        for (int i = 0; i < nodes; i++) {
+            addresses.add(new InetSocketAddress("127.0.0.1", FIRST_PORT + i));
+        }
+
+        ApiRateLimiter[] limiters = new ApiRateLimiter[nodes];
+        RateLimitPolicy[] policies = new RateLimitPolicy[nodes];
+        for (int i = 0; i < nodes; i++) {
+            limiters[i] = new ApiRateLimiter(TimeUnit.SECONDS.toNanos(10),
+                    new RateLimitCluster(addresses.get(i), addresses, SYNC_INTERVAL, PEER_TIMEOUT));
+            // Each node registers its own policy for the route, matched by name
+            policies[i] = new RateLimitPolicy("GET /check", limit, Duration.ofSeconds(1));
+        }
+
+        try {
+            // Let every node hear from the others
+            Thread.sleep(PEER_TIMEOUT.toMillis() / 2);
+            for (int i = 0; i < nodes; i++) {
+                System.out.printf("node %d sees %d live peers (expected %d)%n",
+                        i, limiters[i].getCluster().getLivePeerCount(), nodes - 1);
+            }
+
+            report("spread over " + nodes + " nodes", run(limiters, policies, nodes, "even", seconds), limit, seconds);
+            report("single node", run(limiters, policies, 1, "single", seconds), limit, seconds);
+        } finally {
+            for (ApiRateLimiter limiter : limiters) {
+                limiter.getCluster().shutdown();
+            }
+        }
+    }
+
+    private static long run(ApiRateLimiter[] limiters, RateLimitPolicy[] policies, int nodes, String client,
+                            int seconds) throws InterruptedException {
+        long admitted = 0;
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(seconds);
+        long next = start;
+
+        for (int request = 0; next - end < 0; request++) {
+            int node = request % nodes;
+            if (limiters[node].acquire(policies[node], client).allowed()) {
+                admitted++;
+            }
+
+            next += REQUEST_INTERVAL_NANOS;
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                Thread.sleep(wait / 1_000_000, (int) (wait % 1_000_000));
+            }
+        }
+        return admitted;
+    }
+
+    private static void report(String scenario, long admitted, int limit, int seconds) {
+        System.out.printf("%-20s admitted %6d in %d s = %7.1f/s (limit %d/s)%n",
+                scenario, admitted, seconds, admitted / (double) seconds, limit);
+    }
+}
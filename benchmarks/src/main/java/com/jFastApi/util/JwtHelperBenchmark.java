@@ -0,0 +1,50 @@
+package com.jFastApi.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtHelperBenchmark {
+
+    // 256-bit HS256 key, base64 encoded
+    private static final String SECRET = "c2VjcmV0LWtleS1mb3ItYmVuY2htYXJrcy1vbmx5LTMyYnl0ZXM=";
+
+    private JwtHelper jwtHelper;
+    private JwtHelper uncachedJwtHelper;
+    private String token;
+
+    @Setup
+    public void setup() {
+        jwtHelper = new JwtHelper(SECRET, 10000);
+        uncachedJwtHelper = new JwtHelper(SECRET, 0);
+        token = jwtHelper.generateToken("alice", Map.of("authority", "ROLE_USER"), TimeUnit.HOURS.toMillis(1));
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return uncachedJwtHelper.extractUsername(token);
+    }
+
+    /**
+     * What the authorization interceptor does per request: a single verification, the first request of a token.
+     */
+    @Benchmark
+    public String authenticate() {
+        return uncachedJwtHelper.verify(token).getSubject();
+    }
+
+    /**
+     * Repeat requests with the same token: a digest and a cache lookup.
+     */
+    @Benchmark
+    public String authenticateCached() {
+        return jwtHelper.verify(token).getSubject();
+    }
+}
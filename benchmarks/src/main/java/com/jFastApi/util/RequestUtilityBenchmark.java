@@ -0,0 +1,29 @@
+package com.jFastApi.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestUtilityBenchmark {
+
+    private static final String SHORT_QUERY = "id=42&name=keyboard";
+    private static final String ENCODED_QUERY =
+            "q=mechanical%20keyboard&sort=price&order=asc&page=3&size=50&filter=brand%3Dacme%26color%3Dblack&lang=en";
+
+    @Benchmark
+    public Map<String, String> parseShortQuery() {
+        return RequestUtility.parseQuery(SHORT_QUERY);
+    }
+
+    @Benchmark
+    public Map<String, String> parseEncodedQuery() {
+        return RequestUtility.parseQuery(ENCODED_QUERY);
+    }
+}
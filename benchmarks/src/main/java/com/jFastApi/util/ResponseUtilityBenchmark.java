@@ -0,0 +1,42 @@
+package com.jFastApi.util;
+
+import com.jFastApi.benchmark.Item;
+import com.jFastApi.enumeration.HttpStatus;
+import com.jFastApi.http.InMemoryHttpExchange;
+import com.jFastApi.http.Response;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResponseUtilityBenchmark {
+
+    private Item item;
+    private Response<Item> response;
+    private InMemoryHttpExchange exchange;
+
+    @Setup
+    public void setup() {
+        item = Item.sample();
+        response = new Response.Builder<Item>().body(item).status(HttpStatus.OK).build();
+        exchange = new InMemoryHttpExchange("GET", "/bench/item", null, null);
+    }
+
+    @Benchmark
+    public byte[] toJsonBytes() throws IOException {
+        return JsonUtility.toJsonBytes(item);
+    }
+
+    @Benchmark
+    public int sendJsonResponse() {
+        exchange.reset();
+        ResponseUtility.sendResponse(exchange, response);
+        return exchange.getResponseSize();
+    }
+}
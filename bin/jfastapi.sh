@@ -0,0 +1,46 @@
+#!/usr/bin/env bash
+# Launches a JFastApi application, optionally with an application class-data sharing (AppCDS)
+# archive for faster cold starts:
+#
+#   bin/jfastapi.sh --train app.jar     # training run: starts the app, loads routes, beans,
+#                                       # entities and serializers, exits and writes app.jsa
+#   bin/jfastapi.sh --cds app.jar       # starts with app.jsa (plain start if it is missing)
+#   bin/jfastapi.sh app.jar             # plain start
+#
+# The archive is written next to the jar; set CDS_ARCHIVE to change it. JAVA_OPTS are passed
+# to the JVM. Retrain whenever the jar or the JDK changes: the JVM ignores a stale archive.
+set -euo pipefail
+
+MODE=plain
+case "${1:-}" in
+  --train) MODE=train; shift ;;
+  --cds) MODE=cds; shift ;;
+esac
+
+if [[ $# -lt 1 ]]; then
+  echo "Usage: $0 [--train | --cds] app.jar [args...]" >&2
+  exit 1
+fi
+
+JAR=$1
+shift
+ARCHIVE=${CDS_ARCHIVE:-${JAR%.jar}.jsa}
+read -r -a OPTS <<< "${JAVA_OPTS:-}"
+
+case "$MODE" in
+  train)
+    rm -f "$ARCHIVE"
+    java ${OPTS[@]+"${OPTS[@]}"} -XX:ArchiveClassesAtExit="$ARCHIVE" -Dapp.cds.training=true -jar "$JAR" "$@"
+    echo "CDS archive written to $ARCHIVE"
+    ;;
+  cds)
+    if [[ -f "$ARCHIVE" ]]; then
+      exec java ${OPTS[@]+"${OPTS[@]}"} -XX:SharedArchiveFile="$ARCHIVE" -jar "$JAR" "$@"
+    fi
+    echo "No CDS archive at $ARCHIVE, starting without it (run with --train first)" >&2
+    exec java ${OPTS[@]+"${OPTS[@]}"} -jar "$JAR" "$@"
+    ;;
+  plain)
+    exec java ${OPTS[@]+"${OPTS[@]}"} -jar "$JAR" "$@"
+    ;;
+esac
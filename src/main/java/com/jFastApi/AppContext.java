@@ -1,7 +1,15 @@
 package com.jFastApi;
 
+import com.jFastApi.exception.ApplicationException;
+import com.jFastApi.exception.ServiceUnavailableException;
+import com.jFastApi.util.PropertiesUtil;
 import org.hibernate.SessionFactory;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 /**
  * Holds global application context for the mini framework.
  * Stores base package for scanning and default Hibernate SessionFactory.
@@ -20,9 +28,10 @@ public final class AppContext {
     private static String internalBasePackage;
 
     /**
-     * Default Hibernate SessionFactory, initialized in PrimaryDataSourceConfig
+     * Default Hibernate SessionFactory, completed by PrimaryDataSourceConfig.
+     * May still be building while requests are served (app.startup.defer_datasource).
      */
-    private static SessionFactory defaultSessionFactory;
+    private static volatile CompletableFuture<SessionFactory> defaultSessionFactory = new CompletableFuture<>();
 
     /**
      * Initializes the application context with the main class.
@@ -53,12 +62,37 @@ public final class AppContext {
     }
 
     /**
-     * Returns the default Hibernate SessionFactory.
+     * Returns the default Hibernate SessionFactory, waiting for it if it is still being built.
      *
      * @return The SessionFactory instance.
+     * @throws ServiceUnavailableException if it is not ready within app.startup.datasource_wait_ms
+     * @throws ApplicationException        if building it failed
      */
     public static SessionFactory getDefaultSessionFactory() {
-        return defaultSessionFactory;
+        CompletableFuture<SessionFactory> future = defaultSessionFactory;
+        SessionFactory sessionFactory = future.getNow(null);
+        if (sessionFactory != null) {
+            return sessionFactory;
+        }
+
+        try {
+            long waitMillis = PropertiesUtil.getPropertyLong(PropertiesUtil.STARTUP_DATASOURCE_WAIT_MS, 30_000);
+            return future.get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            throw new ServiceUnavailableException("Database is still starting");
+        } catch (ExecutionException ex) {
+            throw new ApplicationException("Hibernate initialization failed", ex.getCause() instanceof Exception cause ? cause : ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Interrupted while waiting for the database");
+        }
+    }
+
+    /**
+     * @return true once the default SessionFactory is built
+     */
+    public static boolean isDefaultSessionFactoryReady() {
+        return defaultSessionFactory.isDone() && !defaultSessionFactory.isCompletedExceptionally();
     }
 
     /**
@@ -68,6 +102,18 @@ public final class AppContext {
      * @param defaultSessionFactory The SessionFactory to set as default.
      */
     public static void setDefaultSessionFactory(SessionFactory defaultSessionFactory) {
-        AppContext.defaultSessionFactory = defaultSessionFactory;
+        // Re-initialization (e.g. a second in-process start) replaces the previous one
+        if (!AppContext.defaultSessionFactory.complete(defaultSessionFactory)) {
+            AppContext.defaultSessionFactory = CompletableFuture.completedFuture(defaultSessionFactory);
+        }
+    }
+
+    /**
+     * Records that building the default SessionFactory failed; waiting callers get the error.
+     */
+    public static void failDefaultSessionFactory(Throwable cause) {
+        if (!defaultSessionFactory.completeExceptionally(cause)) {
+            defaultSessionFactory = CompletableFuture.failedFuture(cause);
+        }
     }
 }
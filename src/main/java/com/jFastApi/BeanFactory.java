@@ -4,27 +4,43 @@ import com.jFastApi.annotation.Bean;
 import com.jFastApi.annotation.InterceptorBean;
 import com.jFastApi.annotation.SystemInterceptorBean;
 import com.jFastApi.exception.ApplicationException;
-import com.jFastApi.util.ReflectionUtility;
+import com.jFastApi.scan.ComponentIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
 import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * A very simple dependency injection container (BeanFactory).
  * <p>
  * Features:
  * - Supports automatic constructor injection recursively.
- * - Enforces that only classes annotated with @Injectable can be created as beans.
+ * - Enforces that only classes annotated with @Bean, @InterceptorBean or @SystemInterceptorBean can be created as beans.
  * - Stores singleton instances so that the same bean is reused across the application.
+ * - Creates all singletons eagerly at startup ({@link #createAll()}): the dependency graph is built from the
+ * constructors, checked for cycles, and beans are created in topological order, independent beans in parallel.
+ * - Calls the compile-time generated {@link BeanProvider} of a class when there is one, and its
+ * constructor by reflection otherwise.
+ * <p>
+ * Lookups read an immutable snapshot of the bean table, so they neither lock nor allocate. Only a
+ * miss (a bean created lazily or registered after startup) takes the lock and republishes the snapshot.
  * <p>
  * This is a lightweight version of what Spring or Guice does.
  */
 public class BeanFactory {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(BeanFactory.class);
+
+    // Guards beans and beanDefinitions; never taken by a lookup that hits the snapshot
+    private static final Object LOCK = new Object();
+
     /**
      * Internal singleton map that holds created bean instances.
-     * Key   = Class type
+     * Key   = Class type (implementation class and the interfaces it is defined for)
      * Value = Bean instance (singleton)
      */
     private static final Map<Class<?>, Object> beans = new HashMap<>();
@@ -32,14 +48,36 @@ public class BeanFactory {
     // Map of type (interface or class) -> implementation class
     private static final Map<Class<?>, Class<?>> beanDefinitions = new HashMap<>();
 
+    // Immutable copy of beans, republished after every change
+    private static volatile Map<Class<?>, Object> frozenBeans = Map.of();
+
+    // Bean class -> generated provider, from every META-INF/services file on the classpath
+    private static final Map<Class<?>, BeanProvider<?>> generatedProviders = loadProviders();
+
+    @SuppressWarnings("rawtypes")
+    private static Map<Class<?>, BeanProvider<?>> loadProviders() {
+        Map<Class<?>, BeanProvider<?>> loaded = new HashMap<>();
+
+        try {
+            for (BeanProvider provider : ServiceLoader.load(BeanProvider.class)) {
+                loaded.put(provider.type(), provider);
+            }
+        } catch (ServiceConfigurationError ex) {
+            LOGGER.error("Failed to load generated bean providers, falling back to reflection. error {}", ex.getMessage());
+        }
+        return Map.copyOf(loaded);
+    }
+
     public static void scanAndRegister(String basePackage, String internalBasePackage) {
 
-        // Use your ReflectionUtility or any classpath scanner
-        List<Class<?>> candidates = ReflectionUtility.getClasses(basePackage);
-        List<Class<?>> internalCandidates = ReflectionUtility.getClasses(internalBasePackage);
+        // Indexed at compile time; falls back to classpath scanning
+        List<Class<?>> candidates = ComponentIndex.getClasses(basePackage);
+        List<Class<?>> internalCandidates = ComponentIndex.getClasses(internalBasePackage);
 
-        register(internalCandidates);
-        register(candidates);
+        synchronized (LOCK) {
+            register(internalCandidates);
+            register(candidates);
+        }
     }
 
     private static void register(List<Class<?>> candidates) {
@@ -67,40 +105,233 @@ public class BeanFactory {
                 || clazz.isAnnotationPresent(SystemInterceptorBean.class);
     }
 
+    /**
+     * Creates every registered bean that does not exist yet.
+     * <p>
+     * Beans are grouped into levels: a bean's level is one more than the highest level of its
+     * dependencies. The beans of one level are created in parallel, then published together.
+     * Beans with a dependency that is neither a bean nor a registered instance (e.g. the
+     * {@code JwtHelper} with security disabled) are skipped; looking them up fails as before.
+     *
+     * @throws ApplicationException on a circular dependency or if a constructor fails
+     */
+    public static void createAll() {
+        long start = System.nanoTime();
+
+        List<List<BeanDefinition>> levels;
+        synchronized (LOCK) {
+            levels = plan();
+        }
+
+        int created = 0;
+        int generated = 0;
+        for (List<BeanDefinition> planned : levels) {
+            // A constructor of an earlier level may have created a bean lazily, via getBeanInstance
+            Map<Class<?>, Object> published = frozenBeans;
+            List<BeanDefinition> level = planned.stream()
+                    .filter(definition -> !published.containsKey(definition.type()))
+                    .toList();
+
+            // Constructors run outside the lock: a level only depends on already published levels
+            List<Object> instances = level.parallelStream().map(BeanFactory::instantiate).toList();
+
+            synchronized (LOCK) {
+                for (int i = 0; i < level.size(); i++) {
+                    BeanDefinition definition = level.get(i);
+                    // Same for a constructor of this level: keep the instance others already received
+                    if (beans.containsKey(definition.type())) continue;
+
+                    putInstance(definition.type(), instances.get(i));
+                    created++;
+                    if (!(definition.provider() instanceof ReflectiveProvider)) {
+                        generated++;
+                    }
+                }
+                frozenBeans = Map.copyOf(beans);
+            }
+        }
+
+        LOGGER.info("Created {} beans ({} by generated providers) in {} levels in {} ms", created, generated,
+                levels.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // Dependency graph of the beans not created yet, in topological levels
+    private static List<List<BeanDefinition>> plan() {
+        Map<Class<?>, BeanDefinition> definitions = new LinkedHashMap<>();
+        Map<Class<?>, String> unresolvable = new HashMap<>();
+
+        for (Class<?> implClass : new LinkedHashSet<>(beanDefinitions.values())) {
+            if (beans.containsKey(implClass)) continue;
+
+            BeanProvider<?> provider = providerOf(implClass);
+            if (provider == null) {
+                unresolvable.put(implClass, "no public constructor");
+                continue;
+            }
+
+            List<Class<?>> dependencies = new ArrayList<>();
+            for (Class<?> parameterType : provider.dependencies()) {
+                if (beans.containsKey(parameterType)) continue;
+
+                Class<?> dependency = beanDefinitions.get(parameterType);
+                if (dependency == null) {
+                    unresolvable.put(implClass, "no bean of type " + parameterType.getName());
+                    break;
+                }
+                if (!beans.containsKey(dependency)) {
+                    dependencies.add(dependency);
+                }
+            }
+            definitions.put(implClass, new BeanDefinition(implClass, provider, dependencies));
+        }
+
+        Map<Class<?>, Integer> levelOf = new HashMap<>();
+        for (Class<?> implClass : definitions.keySet()) {
+            levelOf(implClass, definitions, unresolvable, levelOf, new LinkedHashSet<>());
+        }
+
+        unresolvable.forEach((implClass, reason) ->
+                LOGGER.info("Bean {} not created at startup: {}", implClass.getName(), reason));
+
+        List<List<BeanDefinition>> levels = new ArrayList<>();
+        levelOf.forEach((implClass, level) -> {
+            if (level < 0) return;
+            while (levels.size() <= level) {
+                levels.add(new ArrayList<>());
+            }
+            levels.get(level).add(definitions.get(implClass));
+        });
+        return levels;
+    }
+
+    // Depth-first: the path detects cycles, -1 marks a bean that cannot be created
+    private static int levelOf(Class<?> implClass, Map<Class<?>, BeanDefinition> definitions,
+                               Map<Class<?>, String> unresolvable, Map<Class<?>, Integer> levelOf,
+                               LinkedHashSet<Class<?>> path) {
+
+        Integer known = levelOf.get(implClass);
+        if (known != null) {
+            return known;
+        }
+
+        if (!path.add(implClass)) {
+            String cycle = path.stream()
+                    .dropWhile(type -> type != implClass)
+                    .map(Class::getSimpleName)
+                    .collect(Collectors.joining(" -> ", "", " -> " + implClass.getSimpleName()));
+            throw new ApplicationException("Circular dependency between beans: " + cycle);
+        }
+
+        BeanDefinition definition = definitions.get(implClass);
+        int level;
+        if (definition == null || unresolvable.containsKey(implClass)) {
+            level = -1;
+        } else {
+            level = 0;
+            for (Class<?> dependency : definition.dependencies()) {
+                int dependencyLevel = levelOf(dependency, definitions, unresolvable, levelOf, path);
+                if (dependencyLevel < 0) {
+                    unresolvable.putIfAbsent(implClass, "depends on " + dependency.getName());
+                    level = -1;
+                    break;
+                }
+                level = Math.max(level, dependencyLevel + 1);
+            }
+        }
+
+        path.remove(implClass);
+        levelOf.put(implClass, level);
+        return level;
+    }
+
+    private static Object instantiate(BeanDefinition definition) {
+        List<Class<?>> parameterTypes = definition.provider().dependencies();
+        Object[] params = new Object[parameterTypes.size()];
+
+        Map<Class<?>, Object> published = frozenBeans;
+        for (int i = 0; i < params.length; i++) {
+            params[i] = published.get(parameterTypes.get(i));
+        }
+
+        try {
+            return definition.provider().create(params);
+        } catch (Exception ex) {
+            throw new ApplicationException("Failed to create bean: " + definition.type().getName(), ex);
+        }
+    }
+
+    // Stores the instance under its class and every type defined to resolve to it
+    private static void putInstance(Class<?> implClass, Object instance) {
+        beans.put(implClass, instance);
+        beanDefinitions.forEach((type, definedImpl) -> {
+            if (definedImpl == implClass) {
+                beans.putIfAbsent(type, instance);
+            }
+        });
+    }
+
+    /**
+     * @return the generated provider of the class, a reflective one, or null if it has no public constructor
+     */
+    private static BeanProvider<?> providerOf(Class<?> implClass) {
+        BeanProvider<?> provider = generatedProviders.get(implClass);
+        if (provider != null) {
+            return provider;
+        }
+
+        // Pick the public constructor with the most parameters
+        // (like Spring's "autowiring by constructor")
+        return Arrays.stream(implClass.getConstructors())
+                .max(Comparator.comparingInt(Constructor::getParameterCount))
+                .map(ReflectiveProvider::new)
+                .orElse(null);
+    }
+
     /**
      * Returns a bean instance for the given class.
-     * If the bean does not exist, it is created recursively using
-     * its constructor dependencies.
+     * Beans created at startup are returned from the frozen bean table. Otherwise the bean is
+     * created recursively using its constructor dependencies.
      * <p>
      * Restrictions:
-     * - The class must be annotated with @Injectable.
+     * - The class must be annotated with @Bean, @InterceptorBean or @SystemInterceptorBean.
      * - The class must have at least one public constructor.
-     * - Constructor dependencies are also resolved via @Injectable beans.
+     * - Constructor dependencies are also resolved via beans.
      *
      * @param clazz The class to create or retrieve.
      * @param <T>   The type of the bean.
      * @return The singleton bean instance.
-     * @throws RuntimeException if the class is not @Injectable
+     * @throws RuntimeException if the class is not a bean
      *                          or if bean creation fails.
      */
     @SuppressWarnings("unchecked")
     public static <T> T getBeanInstance(Class<T> clazz) {
+        Object bean = frozenBeans.get(clazz);
+        if (bean != null) {
+            return (T) bean;
+        }
+
+        synchronized (LOCK) {
+            return (T) create(clazz, new LinkedHashSet<>());
+        }
+    }
+
+    // Lazy creation, under the lock
+    private static Object create(Class<?> clazz, LinkedHashSet<Class<?>> path) {
         try {
 
-            if (!isBean(clazz) && clazz.isInterface()) {
-                clazz = (Class<T>) beanDefinitions.get(clazz);
+            if (!isBean(clazz) && clazz.isInterface() && beanDefinitions.containsKey(clazz)) {
+                clazz = beanDefinitions.get(clazz);
             }
 
-            // Only allow classes explicitly marked as @Injectable
-            if (!(clazz.isAnnotationPresent(Bean.class)
-                    || clazz.isAnnotationPresent(InterceptorBean.class)
-                    || clazz.isAnnotationPresent(SystemInterceptorBean.class))) {
-                throw new RuntimeException("No injectable Bean found for Class " + clazz.getName());
+            // Return existing singleton instance if already created
+            Object existing = beans.get(clazz);
+            if (existing != null) {
+                return existing;
             }
 
-            // Return existing singleton instance if already created
-            if (beans.containsKey(clazz)) {
-                return (T) beans.get(clazz);
+            // Only allow classes explicitly marked as beans
+            if (!isBean(clazz)) {
+                throw new RuntimeException("No injectable Bean found for Class " + clazz.getName());
             }
 
             // Look up implementation class
@@ -109,34 +340,46 @@ public class BeanFactory {
                 throw new RuntimeException("No bean definition found for " + clazz.getName());
             }
 
-            // Pick the public constructor with the most parameters
-            // (like Spring's "autowiring by constructor")
-            String className = clazz.getName();
-            Constructor<?> constructor = Arrays.stream(clazz.getConstructors())
-                    .max(Comparator.comparingInt(Constructor::getParameterCount))
-                    .orElseThrow(() -> new RuntimeException(
-                            "No public constructor found for " + className
-                    ));
+            if (!path.add(implClass)) {
+                throw new ApplicationException("Circular dependency between beans at " + implClass.getName());
+            }
+
+            BeanProvider<?> provider = providerOf(implClass);
+            if (provider == null) {
+                throw new RuntimeException("No public constructor found for " + clazz.getName());
+            }
 
             // Recursively resolve constructor parameters (dependencies)
-            Object[] params = Arrays.stream(constructor.getParameterTypes())
-                    .map(BeanFactory::getBeanInstance) // recursive call
-                    .toArray();
+            List<Class<?>> parameterTypes = provider.dependencies();
+            Object[] params = new Object[parameterTypes.size()];
+            for (int i = 0; i < params.length; i++) {
+                params[i] = create(parameterTypes.get(i), path);
+            }
 
-            // Create the instance via reflection
-            Object instance = constructor.newInstance(params);
+            Object instance = provider.create(params);
+            path.remove(implClass);
 
             // Store in singleton map for future retrieval
-            register(clazz, instance);
-            register(implClass, instance);
+            putInstance(implClass, instance);
+            beans.putIfAbsent(clazz, instance);
+            frozenBeans = Map.copyOf(beans);
 
-            return (T) instance;
+            return instance;
 
         } catch (Exception e) {
             throw new RuntimeException("Failed to create bean: " + clazz, e);
         }
     }
 
+    /**
+     * @return the implementation classes of all registered bean definitions
+     */
+    public static Set<Class<?>> getBeanClasses() {
+        synchronized (LOCK) {
+            return new HashSet<>(beanDefinitions.values());
+        }
+    }
+
     public static <T> void register(Class<T> clazz, Object instance) {
 
         if (instance == null) {
@@ -144,6 +387,47 @@ public class BeanFactory {
         }
 
         // Store in singleton map for future retrieval
-        beans.put(clazz, instance);
+        synchronized (LOCK) {
+            beans.put(clazz, instance);
+            frozenBeans = Map.copyOf(beans);
+        }
+    }
+
+    private record BeanDefinition(Class<?> type, BeanProvider<?> provider, List<Class<?>> dependencies) {
+    }
+
+    // Fallback for classes compiled without the processor
+    private static final class ReflectiveProvider implements BeanProvider<Object> {
+        private final Constructor<?> constructor;
+        private final List<Class<?>> dependencies;
+
+        private ReflectiveProvider(Constructor<?> constructor) {
+            this.constructor = constructor;
+            this.dependencies = List.of(constructor.getParameterTypes());
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Class<Object> type() {
+            return (Class<Object>) constructor.getDeclaringClass();
+        }
+
+        @Override
+        public List<Class<?>> dependencies() {
+            return dependencies;
+        }
+
+        @Override
+        public Object create(Object... dependencies) throws Exception {
+            try {
+                return constructor.newInstance(dependencies);
+            } catch (InvocationTargetException ex) {
+                // Same exception as a generated provider would throw
+                if (ex.getCause() instanceof Exception cause) {
+                    throw cause;
+                }
+                throw ex;
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,35 @@
+package com.jFastApi;
+
+import java.util.List;
+
+/**
+ * Reflection-free factory for a single bean class.
+ * <p>
+ * Implementations are generated at compile time by {@code BeanProviderProcessor} for every
+ * {@code @Bean}, {@code @InterceptorBean} and {@code @SystemInterceptorBean} class, and are
+ * discovered through {@link java.util.ServiceLoader} by {@link BeanFactory}. Classes without
+ * a generated provider are created through their constructor by reflection.
+ *
+ * @param <T> the bean class created by this provider
+ */
+public interface BeanProvider<T> {
+
+    /**
+     * @return the exact bean class this provider creates
+     */
+    Class<T> type();
+
+    /**
+     * @return the parameter types of the constructor used, in order
+     */
+    List<Class<?>> dependencies();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param dependencies the beans for {@link #dependencies()}, in the same order
+     * @return the new bean
+     * @throws Exception whatever the constructor throws
+     */
+    T create(Object... dependencies) throws Exception;
+}
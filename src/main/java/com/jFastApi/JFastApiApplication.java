@@ -1,10 +1,16 @@
 package com.jFastApi;
 
+import com.jFastApi.capture.CaptureLog;
 import com.jFastApi.db.PrimaryDataSourceConfig;
+import com.jFastApi.diagnostics.PinningMonitor;
 import com.jFastApi.exception.ApplicationException;
 import com.jFastApi.exception.ExceptionHandlerRegistry;
 import com.jFastApi.http.RouteScanner;
+import com.jFastApi.http.TrainingRun;
 import com.jFastApi.http.interceptor.InterceptorScanner;
+import com.jFastApi.log.AccessLog;
+import com.jFastApi.scan.ComponentIndex;
+import com.jFastApi.security.RateLimitCluster;
 import com.jFastApi.security.SecurityContext;
 import com.jFastApi.util.BannerUtility;
 import com.jFastApi.util.JwtHelper;
@@ -15,12 +21,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.InetSocketAddress;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.ExecutionException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Main entry point for the JFastApi mini REST framework.
@@ -30,51 +37,166 @@ public final class JFastApiApplication {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JFastApiApplication.class);
 
-    public static void run(Class<?> baseClass) {
-
-        try {
-            // record start time in nanoseconds
-            long startTime = System.nanoTime();
-
-            // Read port number from properties
-            int port = PropertiesUtil.getPropertyInteger(PropertiesUtil.PORT_NUMBER, 8085);
+    // Servers started by run and not stopped yet; one shutdown hook stops them all
+    private static final Set<HttpServer> servers = ConcurrentHashMap.newKeySet();
+    private static final AtomicBoolean shutdownHookAdded = new AtomicBoolean();
+
+    /**
+     * Starts the application on all interfaces, on the port set by {@code port.number}.
+     *
+     * @param baseClass the application's main class; its package is scanned
+     * @return the started server
+     * @see #run(Class, InetSocketAddress)
+     */
+    public static HttpServer run(Class<?> baseClass) {
+        int port = PropertiesUtil.getPropertyInteger(PropertiesUtil.PORT_NUMBER, 8085);
+        return run(baseClass, new InetSocketAddress(port));
+    }
 
-            // Create HTTP server bound to the port
-            HttpServer server = HttpServer.create(new InetSocketAddress(port), 0);
+    /**
+     * Starts the application on the given address.
+     * <p>
+     * Startup phases run in parallel where their dependencies allow (see {@link #addPhases(StartupGraph, boolean)}).
+     * With {@code app.startup.defer_datasource=true} the port opens before the SessionFactory is
+     * built; routes that use the database wait for it (up to {@code app.startup.datasource_wait_ms})
+     * and answer 503 if it is still not ready.
+     * <p>
+     * Tools that run the application in-process, like the load generator, pass a loopback address
+     * with port 0 so that nothing else can reach it and it never collides with a running instance;
+     * the chosen port is then {@code server.getAddress().getPort()}.
+     *
+     * @param baseClass the application's main class; its package is scanned
+     * @param address   the address to bind, port 0 for any free port
+     * @return the started server, to be stopped with {@link #stop(HttpServer)}
+     */
+    public static HttpServer run(Class<?> baseClass, InetSocketAddress address) {
+        boolean deferDatasource = PropertiesUtil.getPropertyBoolean(PropertiesUtil.STARTUP_DEFER_DATASOURCE, false);
+
+        // Initialize application context (sets base package for scanning)
+        AppContext.initialize(baseClass, JFastApiApplication.class);
+
+        AtomicReference<HttpServer> serverRef = new AtomicReference<>();
+        StartupGraph startup = new StartupGraph();
+
+        startup.phase("bind", () -> {
+            try {
+                // Create HTTP server bound to the address
+                HttpServer created = HttpServer.create(address, 0);
+
+                // Use virtual threads (Java 24+) for handling requests
+                created.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+                serverRef.set(created);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        addPhases(startup, deferDatasource);
 
-            // Use virtual threads (Java 24+) for handling requests
-            server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        // Register dispatcher to handle incoming requests
+        startup.phase("dispatcher", () -> RouteScanner.registerDispatcher(serverRef.get()),
+                "bind", "routes", "interceptors", "exception-handlers");
 
-            // Initialize application context (sets base package for scanning)
-            AppContext.initialize(baseClass, JFastApiApplication.class);
+        try {
+            if (deferDatasource) {
+                startup.await("dispatcher");
+            } else {
+                startup.awaitAll();
+            }
+        } finally {
+            startup.shutdown();
+        }
 
-            initSystemEntity(server);
+        HttpServer server = serverRef.get();
 
-            // Print banner
-            String banner = BannerUtility.getBANNER();
-            System.out.println(banner);
-            LOGGER.info("JFastAPi is listening on port : {}", port);
+        // Print banner
+        String banner = BannerUtility.getBANNER();
+        System.out.println(banner);
+        LOGGER.info("JFastAPi is listening on port : {}", server.getAddress().getPort());
 
-            // Add a shutdown hook for graceful server shutdown
+        // Add a shutdown hook for graceful server shutdown, once for all the servers started here
+        servers.add(server);
+        if (shutdownHookAdded.compareAndSet(false, true)) {
             Runtime.getRuntime().addShutdownHook(new Thread(() -> {
                 System.out.println("Shutting down server...");
-                server.stop(0);
+                servers.forEach(running -> running.stop(0));
+                AccessLog.shutdown();
+                CaptureLog.shutdown();
+                PinningMonitor.shutdown();
+                RateLimitCluster.shutdownAll();
             }));
+        }
+
+        // Start HTTP server
+        server.start();
 
-            // Measure end time
-            long endTime = System.nanoTime();
-            long elapsedMillis = (endTime - startTime) / 1_000_000;
-            double elapsedSeconds = elapsedMillis / 1000.0;
+        // Per-phase timing instead of a single total
+        startup.logReport("JFastApi started");
+        if (deferDatasource && !AppContext.isDefaultSessionFactoryReady()) {
+            LOGGER.info("Serving requests while the database starts");
+            startup.whenDone("database", () -> startup.logReport("Database ready"));
+        }
 
-            // Log startup success
-            LOGGER.info("JFastApi started in {} sec", String.format("%.2f", elapsedSeconds));
+        // Training run for a CDS archive: load everything, then let the JVM exit and dump the archive
+        if (TrainingRun.isEnabled()) {
+            TrainingRun.run(server);
+            System.exit(0);
+        }
+        return server;
+    }
 
-            // Start HTTP server
-            server.start();
+    /**
+     * Stops a server started by {@link #run(Class, InetSocketAddress)}.
+     */
+    public static void stop(HttpServer server) {
+        servers.remove(server);
+        server.stop(0);
+    }
 
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+    /**
+     * Adds the phases shared by {@link #run(Class, InetSocketAddress)} and {@link #initialize(Class)}:
+     * <pre>
+     * components ─┬─ beans ─── security ──┬─ singletons ─┬─ interceptors
+     *             │                       │              └─ exception-handlers
+     *             ├─ database ────────────┘
+     *             └─ routes
+     * </pre>
+     * All singletons are created in the singletons phase, after security has registered the
+     * {@code JwtHelper}; later phases only look them up. Bean constructors may use the default
+     * SessionFactory, so the singletons phase also waits for the database, unless the datasource
+     * is deferred.
+     */
+    private static void addPhases(StartupGraph startup, boolean deferDatasource) {
+        String basePackage = AppContext.getBasePackage();
+        String internalBasePackage = AppContext.getInternalBasePackage();
+
+        // Discover the components of both packages at once; every scanner below reads the result
+        startup.phase("components", () -> ComponentIndex.load(basePackage, internalBasePackage));
+
+        // Register bean definitions
+        startup.phase("beans", () -> BeanFactory.scanAndRegister(basePackage, internalBasePackage), "components");
+
+        startup.phase("security", JFastApiApplication::initSecurity, "beans");
+
+        // Usually the slowest phase (Hibernate metamodel and connection pool)
+        startup.phase("database", PrimaryDataSourceConfig::init, "components");
+
+        // Create every bean in dependency order and freeze the bean table
+        if (deferDatasource) {
+            startup.phase("singletons", BeanFactory::createAll, "security");
+        } else {
+            startup.phase("singletons", BeanFactory::createAll, "security", "database");
         }
+
+        // Scan base package for controller routes and register them
+        startup.phase("routes", () -> RouteScanner.scanAndRegister(basePackage, internalBasePackage), "components");
+
+        // Register interceptors
+        startup.phase("interceptors", () -> InterceptorScanner.scanAndRegister(basePackage, internalBasePackage),
+                "singletons");
+
+        // Register Exception Handlers
+        startup.phase("exception-handlers", () -> ExceptionHandlerRegistry.scanPackage(basePackage, internalBasePackage),
+                "singletons");
     }
 
     private static void initSecurity() {
@@ -102,25 +224,25 @@ public final class JFastApiApplication {
         }
     }
 
-    private static void initSystemEntity(HttpServer server) {
-
-        // Scan base package for controller routes and register them
-        BeanFactory.scanAndRegister(AppContext.getBasePackage(), AppContext.getInternalBasePackage());
-
-        initSecurity();
-
-        PrimaryDataSourceConfig.init();
+    /**
+     * Initializes beans, security, the datasource, routes, interceptors and exception handlers
+     * without binding a port. Used by the in-process client.
+     *
+     * @param baseClass the application's main class; its package is scanned
+     */
+    public static void initialize(Class<?> baseClass) {
 
-        // Scan base package for controller routes and register them
-        RouteScanner.scanAndRegister(AppContext.getBasePackage(), AppContext.getInternalBasePackage());
-
-        // Register interceptors
-        InterceptorScanner.scanAndRegister(AppContext.getBasePackage(), AppContext.getInternalBasePackage());
-
-        // Register Exception Handlers
-        ExceptionHandlerRegistry.scanPackage(AppContext.getBasePackage(), AppContext.getInternalBasePackage());
+        // Initialize application context (sets base package for scanning)
+        AppContext.initialize(baseClass, JFastApiApplication.class);
 
-        // Register dispatcher to handle incoming requests
-        RouteScanner.registerDispatcher(server);
+        // Waits for every phase anyway, the database included
+        StartupGraph startup = new StartupGraph();
+        addPhases(startup, false);
+        try {
+            startup.awaitAll();
+        } finally {
+            startup.shutdown();
+        }
+        startup.logReport("JFastApi initialized");
     }
 }
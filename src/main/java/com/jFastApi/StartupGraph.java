@@ -0,0 +1,140 @@
+package com.jFastApi;
+
+import com.jFastApi.exception.ApplicationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Startup phases and their dependencies.
+ * <p>
+ * Each phase starts as soon as all phases it depends on have finished, so independent
+ * phases (e.g. building the SessionFactory and registering routes) run in parallel.
+ * Phases run on platform threads: they are dominated by class loading and initialization,
+ * which pin virtual threads. A failed phase fails every phase depending on it.
+ */
+final class StartupGraph {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StartupGraph.class);
+
+    private final long startNanos = System.nanoTime();
+    private final Map<String, Phase> phases = new LinkedHashMap<>();
+    private final ExecutorService executor;
+
+    StartupGraph() {
+        AtomicInteger count = new AtomicInteger();
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "jfastapi-startup-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Adds a phase and schedules it to run after its dependencies, which must already be added.
+     */
+    StartupGraph phase(String name, Runnable action, String... dependsOn) {
+        CompletableFuture<?>[] dependencies = new CompletableFuture<?>[dependsOn.length];
+        for (int i = 0; i < dependsOn.length; i++) {
+            Phase dependency = phases.get(dependsOn[i]);
+            if (dependency == null) {
+                throw new ApplicationException("Startup phase " + name + " depends on unknown phase " + dependsOn[i]);
+            }
+            dependencies[i] = dependency.future;
+        }
+
+        Phase phase = new Phase(name);
+        phase.future = CompletableFuture.allOf(dependencies).thenRunAsync(() -> {
+            phase.thread = Thread.currentThread().getName();
+            phase.startNanos = System.nanoTime();
+            try {
+                action.run();
+            } finally {
+                phase.endNanos = System.nanoTime();
+            }
+        }, executor);
+        phases.put(name, phase);
+        return this;
+    }
+
+    /**
+     * Waits for the given phases, rethrowing the first failure.
+     */
+    void await(String... names) {
+        for (String name : names) {
+            try {
+                phases.get(name).future.join();
+            } catch (CompletionException ex) {
+                Throwable cause = ex.getCause();
+                if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw new ApplicationException("Startup phase " + name + " failed", (Exception) cause);
+            }
+        }
+    }
+
+    /**
+     * Waits for every phase.
+     */
+    void awaitAll() {
+        await(phases.keySet().toArray(String[]::new));
+    }
+
+    /**
+     * Runs the callback once the phase has finished, successfully or not.
+     */
+    void whenDone(String name, Runnable callback) {
+        phases.get(name).future.whenComplete((result, ex) -> callback.run());
+    }
+
+    /**
+     * Logs when each finished phase started and how long it took, relative to the graph's creation.
+     * Phases still running are listed as such.
+     */
+    void logReport(String title) {
+        StringBuilder report = new StringBuilder(title)
+                .append(String.format(" in %.3f s%n", (System.nanoTime() - startNanos) / 1e9))
+                .append(String.format("  %-20s %10s %10s  %s%n", "phase", "start ms", "took ms", "thread"));
+
+        for (Phase phase : phases.values()) {
+            if (phase.endNanos == 0) {
+                report.append(String.format("  %-20s %10s %10s%n", phase.name, "-", "running"));
+            } else {
+                report.append(String.format("  %-20s %10.1f %10.1f  %s%n", phase.name,
+                        (phase.startNanos - startNanos) / 1e6, (phase.endNanos - phase.startNanos) / 1e6,
+                        phase.thread));
+            }
+        }
+        LOGGER.info(report.toString().stripTrailing());
+    }
+
+    /**
+     * Lets the startup threads exit once the remaining phases have finished.
+     */
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private static final class Phase {
+        private final String name;
+        private CompletableFuture<Void> future;
+        private volatile String thread;
+        private volatile long startNanos;
+        private volatile long endNanos;
+
+        private Phase(String name) {
+            this.name = name;
+        }
+    }
+}
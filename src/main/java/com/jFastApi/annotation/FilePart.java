@@ -0,0 +1,17 @@
+package com.jFastApi.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Binds a file part of a multipart/form-data body to an {@code UploadedFile} parameter.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface FilePart {
+    String name();       // name of the file part
+
+    boolean required() default true;
+}
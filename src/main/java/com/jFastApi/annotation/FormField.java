@@ -0,0 +1,19 @@
+package com.jFastApi.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Binds a field of an application/x-www-form-urlencoded or multipart/form-data body.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface FormField {
+    String name();       // name of the form field
+
+    boolean required() default true;
+
+    String defaultValue() default "";
+}
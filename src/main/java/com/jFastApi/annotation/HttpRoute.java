@@ -30,5 +30,28 @@ public @interface HttpRoute {
     int time() default 1;
 
     boolean disableRateLimiter() default false;
+
+    /**
+     * Maximum size in bytes of a form or multipart request body.
+     * Negative means the global app.form.max_request_size is used.
+     */
+    long maxRequestSize() default -1;
+
+    /**
+     * Maximum size in bytes of a single uploaded file part.
+     * Negative means the global app.form.max_file_size is used.
+     */
+    long maxFileSize() default -1;
+
+    /**
+     * Adds a Server-Timing header with the per-phase breakdown to every response of this route.
+     */
+    boolean serverTiming() default false;
+
+    /**
+     * Whether traffic capture may store the request body of this route. Turn it off for routes
+     * that receive secrets; their requests are captured without a body and skipped on replay.
+     */
+    boolean captureBody() default true;
 }
 
@@ -0,0 +1,227 @@
+package com.jFastApi.capture;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.jFastApi.annotation.SystemInterceptorBean;
+import com.jFastApi.http.Route;
+import com.jFastApi.http.interceptor.Interceptor;
+import com.jFastApi.util.JsonUtility;
+import com.jFastApi.util.PropertiesUtil;
+import com.jFastApi.util.RequestUtility;
+import com.sun.net.httpserver.HttpExchange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.CRC32;
+
+/**
+ * Records a sample of requests to the {@link CaptureLog} for later replay with {@link TrafficReplay}.
+ * <p>
+ * Opt-in with {@code app.capture.enabled}. Runs first so the request body can be buffered
+ * before anything reads it; the buffered copy is handed back to the exchange. The record is
+ * written when the response stream is closed, together with the status, latency, size and
+ * CRC-32 of the response body, which the replay compares against.
+ * <p>
+ * Request bodies up to {@code app.capture.max_body_size} are written as received, except that in
+ * JSON bodies the values of the fields listed in {@code app.capture.redact_fields} are masked; a
+ * JSON body that cannot be parsed is not written. Routes with
+ * {@code @HttpRoute(captureBody = false)}, such as the built-in /login and /refresh, are captured
+ * without their body. Values of the headers listed in {@code app.capture.redact_headers} are
+ * never written.
+ */
+@SystemInterceptorBean(order = 0) // run before CORSInterceptor so preflights are captured too
+public class CaptureInterceptor implements Interceptor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CaptureInterceptor.class);
+
+    public static final String REDACTED = "[redacted]";
+
+    private static final boolean enabled = PropertiesUtil.getPropertyBoolean(PropertiesUtil.CAPTURE_ENABLED, false);
+    private static final double sampleRate = PropertiesUtil.getPropertyDouble(PropertiesUtil.CAPTURE_SAMPLE_RATE, 1.0);
+    private static final long maxBodySize = PropertiesUtil.getPropertyLong(PropertiesUtil.CAPTURE_MAX_BODY_SIZE, 64 * 1024);
+    private static final Set<String> redactHeaders = redactHeaders();
+    private static final Set<String> redactFields = redactFields();
+
+    static {
+        if (enabled) {
+            CaptureLog.start();
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpExchange exchange, Route route) {
+        if (!enabled || (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+            return true;
+        }
+
+        long startNanos = System.nanoTime();
+        long timestampMicros = System.currentTimeMillis() * 1000;
+
+        byte[] body = null;
+        long contentLength = RequestUtility.getContentLength(exchange.getRequestHeaders());
+        if (!route.captureBody()) {
+            // Left unread and not written; the replay skips the record
+        } else if (contentLength == 0
+                || (contentLength < 0 && exchange.getRequestHeaders().getFirst("Transfer-Encoding") == null)) {
+            // No body at all, e.g. a GET
+            body = new byte[0];
+        } else if (contentLength > 0 && contentLength <= maxBodySize) {
+            try {
+                body = exchange.getRequestBody().readNBytes((int) contentLength);
+            } catch (IOException ex) {
+                LOGGER.warn("Could not capture request body, error {}", ex.getMessage());
+                return true;
+            }
+        }
+
+        String method = exchange.getRequestMethod();
+        String uri = exchange.getRequestURI().getRawPath()
+                + (exchange.getRequestURI().getRawQuery() != null ? "?" + exchange.getRequestURI().getRawQuery() : "");
+        List<CaptureRecord.Header> headers = copyHeaders(exchange);
+        byte[] capturedBody = body != null && body.length > 0 ? redactBody(exchange, body) : body;
+
+        CapturingOutputStream out = new CapturingOutputStream(exchange.getResponseBody(), (size, crc) ->
+                CaptureLog.append(new CaptureRecord(timestampMicros, method, uri, headers, capturedBody,
+                        exchange.getResponseCode(), System.nanoTime() - startNanos, size, crc)));
+
+        exchange.setStreams(body != null && body.length > 0 ? new ByteArrayInputStream(body) : null, out);
+        return true;
+    }
+
+    @Override
+    public Object postHandle(HttpExchange exchange, Route route, Object result) {
+        return result;
+    }
+
+    @Override
+    public boolean onException(HttpExchange exchange, Route route, Throwable ex) {
+        return false;
+    }
+
+    private static List<CaptureRecord.Header> copyHeaders(HttpExchange exchange) {
+        List<CaptureRecord.Header> headers = new ArrayList<>();
+        for (Map.Entry<String, List<String>> entry : exchange.getRequestHeaders().entrySet()) {
+            boolean redact = redactHeaders.contains(entry.getKey());
+            for (String value : entry.getValue()) {
+                headers.add(new CaptureRecord.Header(entry.getKey(), redact ? REDACTED : value));
+            }
+        }
+        return headers;
+    }
+
+    /**
+     * Masks the values of the redacted fields of a JSON body, at any depth.
+     *
+     * @return the body to write, or null if it is JSON that cannot be parsed
+     */
+    private static byte[] redactBody(HttpExchange exchange, byte[] body) {
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        if (redactFields.isEmpty() || contentType == null || !contentType.toLowerCase().contains("json")) {
+            return body;
+        }
+
+        JsonFactory factory = JsonUtility.getMapper().getFactory();
+        ByteArrayOutputStream redacted = new ByteArrayOutputStream(body.length);
+        try (JsonParser parser = factory.createParser(body);
+             JsonGenerator generator = factory.createGenerator(redacted)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.FIELD_NAME && redactFields.contains(parser.currentName())) {
+                    generator.writeFieldName(parser.currentName());
+                    parser.nextToken();
+                    parser.skipChildren();
+                    generator.writeString(REDACTED);
+                } else {
+                    generator.copyCurrentEvent(parser);
+                }
+            }
+        } catch (IOException ex) {
+            // Could hide a secret the redaction missed, so it is not written at all
+            LOGGER.debug("Not capturing unparsable JSON body, error {}", ex.getMessage());
+            return null;
+        }
+        return redacted.toByteArray();
+    }
+
+    private static Set<String> redactHeaders() {
+        Set<String> names = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        List<String> configured = PropertiesUtil.getValueList(PropertiesUtil.CAPTURE_REDACT_HEADERS);
+        if (configured.isEmpty()) {
+            names.addAll(List.of("Authorization", "Cookie", "Proxy-Authorization"));
+        } else {
+            configured.forEach(name -> names.add(name.trim()));
+        }
+        return names;
+    }
+
+    private static Set<String> redactFields() {
+        Set<String> names = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        List<String> configured = PropertiesUtil.getValueList(PropertiesUtil.CAPTURE_REDACT_FIELDS);
+        if (configured.isEmpty()) {
+            names.addAll(List.of("password", "refreshToken", "accessToken", "token"));
+        } else {
+            configured.forEach(name -> names.add(name.trim()));
+        }
+        return names;
+    }
+
+    @FunctionalInterface
+    private interface CompletionListener {
+        void completed(long size, long crc);
+    }
+
+    /**
+     * Passes the response through while counting its size and checksum; reports once on close.
+     */
+    private static final class CapturingOutputStream extends FilterOutputStream {
+
+        private final CompletionListener listener;
+        private final CRC32 crc = new CRC32();
+        private long size;
+        private boolean closed;
+
+        private CapturingOutputStream(OutputStream out, CompletionListener listener) {
+            super(out);
+            this.listener = listener;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            crc.update(b);
+            size++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            crc.update(b, off, len);
+            size += len;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                if (!closed) {
+                    closed = true;
+                    listener.completed(size, crc.getValue());
+                }
+            }
+        }
+    }
+}
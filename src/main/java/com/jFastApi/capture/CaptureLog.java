@@ -0,0 +1,160 @@
+package com.jFastApi.capture;
+
+import com.jFastApi.util.PropertiesUtil;
+import com.jFastApi.util.StringUtility;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Append-only binary log of captured requests.
+ * <p>
+ * Request threads encode their record and hand it to a bounded queue; a single background
+ * thread appends to the file. When the queue is full or the file reached its size limit,
+ * records are dropped and counted instead of slowing requests down.
+ * <p>
+ * Format: the magic {@code JFCAP} and a version byte, then records, each prefixed with its
+ * length (see {@link CaptureRecord}).
+ */
+public final class CaptureLog {
+
+    private CaptureLog() {
+    }
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CaptureLog.class);
+
+    static final byte[] MAGIC = {'J', 'F', 'C', 'A', 'P'};
+    static final int VERSION = 1;
+
+    private static final int QUEUE_SIZE = 4096;
+    private static final int BATCH_SIZE = 256;
+
+    private static final BlockingQueue<byte[]> queue = new ArrayBlockingQueue<>(QUEUE_SIZE);
+    private static final LongAdder dropped = new LongAdder();
+
+    private static Thread writer;
+    private static volatile boolean running;
+
+    /**
+     * Starts the writer thread. Does nothing if already started.
+     */
+    public static synchronized void start() {
+        if (writer != null) {
+            return;
+        }
+
+        String file = PropertiesUtil.getProperty(PropertiesUtil.CAPTURE_FILE);
+        Path path = Path.of(StringUtility.isEmpty(file) ? "logs/traffic.cap" : file);
+        long maxFileSize = PropertiesUtil.getPropertyLong(PropertiesUtil.CAPTURE_MAX_FILE_SIZE, 1024L * 1024 * 1024);
+
+        running = true;
+        writer = new Thread(() -> write(path, maxFileSize), "jfastapi-capture");
+        writer.setDaemon(true);
+        writer.start();
+        LOGGER.info("Capturing traffic to {}", path.toAbsolutePath());
+    }
+
+    /**
+     * Stops the writer after appending everything already queued.
+     */
+    public static synchronized void shutdown() {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        writer = null;
+    }
+
+    /**
+     * Queues a record. Never blocks; drops the record if the writer falls behind.
+     */
+    static void append(CaptureRecord record) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        try {
+            record.writeTo(new DataOutputStream(bytes));
+        } catch (IOException ex) {
+            // Writing to memory does not fail
+            throw new IllegalStateException(ex);
+        }
+        if (!queue.offer(bytes.toByteArray())) {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * @return records dropped because the queue was full or the file size limit was reached
+     */
+    public static long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    private static void write(Path path, long maxFileSize) {
+        List<byte[]> batch = new ArrayList<>(BATCH_SIZE);
+
+        try (OutputStream file = open(path);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, 64 * 1024))) {
+
+            long size = Files.size(path);
+
+            while (running || !queue.isEmpty()) {
+                byte[] first = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, BATCH_SIZE - 1);
+
+                for (byte[] record : batch) {
+                    if (size + record.length + 4 > maxFileSize) {
+                        dropped.increment();
+                        continue;
+                    }
+                    out.writeInt(record.length);
+                    out.write(record);
+                    size += record.length + 4;
+                }
+                batch.clear();
+                out.flush();
+            }
+        } catch (IOException ex) {
+            LOGGER.error("Traffic capture stopped, error {}", ex.getMessage());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static OutputStream open(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        boolean isNew = !Files.exists(path) || Files.size(path) == 0;
+        OutputStream out = Files.newOutputStream(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        if (isNew) {
+            out.write(MAGIC);
+            out.write(VERSION);
+        }
+        return out;
+    }
+}
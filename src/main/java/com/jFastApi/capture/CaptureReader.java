@@ -0,0 +1,80 @@
+package com.jFastApi.capture;
+
+import com.jFastApi.exception.ApplicationException;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads the records of a capture file written by {@link CaptureLog}, in order.
+ * <p>
+ * A record cut off at the end of the file (the application was killed mid-write) ends
+ * the iteration instead of failing it.
+ */
+public final class CaptureReader implements Iterator<CaptureRecord>, Closeable {
+
+    private final DataInputStream in;
+    private CaptureRecord next;
+
+    public CaptureReader(Path path) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 64 * 1024));
+
+        byte[] magic = in.readNBytes(CaptureLog.MAGIC.length);
+        if (!Arrays.equals(magic, CaptureLog.MAGIC)) {
+            in.close();
+            throw new ApplicationException(path + " is not a capture file");
+        }
+        int version = in.read();
+        if (version != CaptureLog.VERSION) {
+            in.close();
+            throw new ApplicationException("Unsupported capture file version " + version);
+        }
+        next = readNext();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    @Override
+    public CaptureRecord next() {
+        if (next == null) {
+            throw new NoSuchElementException();
+        }
+        CaptureRecord record = next;
+        try {
+            next = readNext();
+        } catch (IOException ex) {
+            throw new ApplicationException(ex);
+        }
+        return record;
+    }
+
+    private CaptureRecord readNext() throws IOException {
+        try {
+            int length = in.readInt();
+            byte[] bytes = in.readNBytes(length);
+            if (bytes.length < length) {
+                return null;
+            }
+            return CaptureRecord.readFrom(new DataInputStream(new ByteArrayInputStream(bytes)));
+        } catch (EOFException ex) {
+            return null;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -0,0 +1,86 @@
+package com.jFastApi.capture;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One captured request and a fingerprint of its response.
+ *
+ * @param timestampMicros wall-clock time the request was received, in epoch microseconds
+ * @param method          HTTP method
+ * @param uri             raw path and query
+ * @param headers         request headers, sensitive values redacted
+ * @param body            request body, or null if it was not captured (too large or unknown length)
+ * @param status          response status
+ * @param latencyNanos    time from capture to the response being closed
+ * @param responseBytes   response body length
+ * @param responseCrc     CRC-32 of the response body
+ */
+public record CaptureRecord(long timestampMicros, String method, String uri, List<Header> headers, byte[] body,
+                            int status, long latencyNanos, long responseBytes, long responseCrc) {
+
+    public record Header(String name, String value) {
+    }
+
+    void writeTo(DataOutputStream out) throws IOException {
+        out.writeLong(timestampMicros);
+        writeString(out, method);
+        writeString(out, uri);
+        out.writeShort(headers.size());
+        for (Header header : headers) {
+            writeString(out, header.name());
+            writeString(out, header.value());
+        }
+        if (body == null) {
+            out.writeInt(-1);
+        } else {
+            out.writeInt(body.length);
+            out.write(body);
+        }
+        out.writeShort(status);
+        out.writeLong(latencyNanos);
+        out.writeLong(responseBytes);
+        out.writeInt((int) responseCrc);
+    }
+
+    static CaptureRecord readFrom(DataInputStream in) throws IOException {
+        long timestampMicros = in.readLong();
+        String method = readString(in);
+        String uri = readString(in);
+
+        int headerCount = in.readUnsignedShort();
+        List<Header> headers = new ArrayList<>(headerCount);
+        for (int i = 0; i < headerCount; i++) {
+            headers.add(new Header(readString(in), readString(in)));
+        }
+
+        int bodyLength = in.readInt();
+        byte[] body = null;
+        if (bodyLength >= 0) {
+            body = in.readNBytes(bodyLength);
+        }
+
+        int status = in.readShort();
+        long latencyNanos = in.readLong();
+        long responseBytes = in.readLong();
+        long responseCrc = in.readInt() & 0xFFFFFFFFL;
+
+        return new CaptureRecord(timestampMicros, method, uri, headers, body, status, latencyNanos, responseBytes,
+                responseCrc);
+    }
+
+    // Length-prefixed UTF-8; unlike writeUTF not limited to 64 KB
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return new String(in.readNBytes(in.readInt()), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,158 @@
+package com.jFastApi.capture;
+
+import com.jFastApi.metrics.LatencyHistogram;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Result of a {@link TrafficReplay}: latency of the replay next to the captured latency,
+ * and the responses that differ from the captured ones.
+ * <p>
+ * Status differences are keyed by route and "captured->replayed" status. Body differences
+ * are detected by size and CRC-32, so responses containing timestamps or generated ids
+ * always differ; compare their counts between runs rather than expecting zero.
+ */
+public final class ReplayReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+    private static final int MAX_MISMATCH_KEYS = 256;
+
+    private final LatencyHistogram captured = new LatencyHistogram();
+    private final LatencyHistogram replayed = new LatencyHistogram();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder bodyMismatches = new LongAdder();
+    private final Map<String, LongAdder> statusMismatches = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private Duration elapsed = Duration.ZERO;
+
+    ReplayReport() {
+    }
+
+    void completed(CaptureRecord record, int status, long latencyNanos, boolean bodyMatches) {
+        completed.increment();
+        captured.record(record.latencyNanos());
+        replayed.record(latencyNanos);
+
+        if (status != record.status()) {
+            String path = record.uri().split("\\?", 2)[0];
+            String key = record.method() + " " + path + " " + record.status() + "->" + status;
+            if (statusMismatches.size() < MAX_MISMATCH_KEYS || statusMismatches.containsKey(key)) {
+                statusMismatches.computeIfAbsent(key, k -> new LongAdder()).increment();
+            } else {
+                statusMismatches.computeIfAbsent("other", k -> new LongAdder()).increment();
+            }
+        } else if (!bodyMatches) {
+            bodyMismatches.increment();
+        }
+    }
+
+    void skipped() {
+        skipped.increment();
+    }
+
+    void error(String type) {
+        errors.computeIfAbsent(type, k -> new LongAdder()).increment();
+    }
+
+    void finish(Duration elapsed) {
+        this.elapsed = elapsed;
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * @return requests that received a response (of any status)
+     */
+    public long getCompleted() {
+        return completed.sum();
+    }
+
+    /**
+     * @return records not replayed because their request body was not captured
+     */
+    public long getSkipped() {
+        return skipped.sum();
+    }
+
+    /**
+     * @return responses with the captured status but a different body
+     */
+    public long getBodyMismatches() {
+        return bodyMismatches.sum();
+    }
+
+    /**
+     * @return counts keyed by "METHOD path captured->replayed"
+     */
+    public Map<String, Long> getStatusMismatches() {
+        return sum(statusMismatches);
+    }
+
+    public long getStatusMismatchCount() {
+        return statusMismatches.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * @return error counts keyed by exception type
+     */
+    public Map<String, Long> getErrors() {
+        return sum(errors);
+    }
+
+    public LatencyHistogram getCapturedLatency() {
+        return captured;
+    }
+
+    public LatencyHistogram getReplayedLatency() {
+        return replayed;
+    }
+
+    /**
+     * Prints a human-readable summary.
+     */
+    public void print(PrintStream out) {
+        long errorCount = errors.values().stream().mapToLong(LongAdder::sum).sum();
+        out.printf("Replayed: %d completed, %d skipped, %d errors in %.1f s%n",
+                getCompleted(), getSkipped(), errorCount, elapsed.toNanos() / 1e9);
+        out.printf("Differences: %d status, %d body%n", getStatusMismatchCount(), getBodyMismatches());
+
+        out.printf("%nLatency (ms) %11s", "");
+        for (double percentile : PERCENTILES) {
+            out.printf("%10s", "p" + (percentile == (long) percentile ? String.valueOf((long) percentile) : percentile));
+        }
+        out.printf("%10s%n", "max");
+        printRow(out, "captured", captured);
+        printRow(out, "replayed", replayed);
+
+        if (!statusMismatches.isEmpty()) {
+            out.printf("%nStatus differences:%n");
+            getStatusMismatches().forEach((key, count) -> out.printf("  %-50s %d%n", key, count));
+        }
+        if (!errors.isEmpty()) {
+            out.printf("%nErrors:%n");
+            getErrors().forEach((type, count) -> out.printf("  %-30s %d%n", type, count));
+        }
+    }
+
+    private static void printRow(PrintStream out, String label, LatencyHistogram histogram) {
+        out.printf("  %-22s", label);
+        for (double percentile : PERCENTILES) {
+            out.printf("%10.3f", histogram.getValueAtPercentile(percentile) / 1e6);
+        }
+        out.printf("%10.3f%n", histogram.getMax() / 1e6);
+    }
+
+    private static Map<String, Long> sum(Map<String, LongAdder> counters) {
+        Map<String, Long> sums = new TreeMap<>();
+        counters.forEach((key, count) -> sums.put(key, count.sum()));
+        return sums;
+    }
+}
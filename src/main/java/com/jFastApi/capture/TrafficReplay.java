@@ -0,0 +1,274 @@
+package com.jFastApi.capture;
+
+import com.jFastApi.JFastApiApplication;
+import com.jFastApi.exception.ApplicationException;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+import java.util.zip.CRC32;
+
+/**
+ * Replays a capture file against a local instance and compares the responses with the captured ones.
+ * <p>
+ * Requests are sent open-loop at their original spacing divided by the speed factor, each on
+ * its own virtual thread, so a slow server does not slow the replay down. Latency is measured
+ * from the scheduled send time, as in {@link com.jFastApi.loadtest.LoadTest}.
+ * <p>
+ * Redacted headers are dropped unless a replacement is configured, e.g. a token valid for
+ * the local instance:
+ * <pre>
+ * ReplayReport report = new TrafficReplay.Builder()
+ *         .capture(Path.of("logs/traffic.cap"))
+ *         .application(Main.class)
+ *         .speed(2.0)
+ *         .header("Authorization", "Bearer " + token)
+ *         .build()
+ *         .run();
+ * report.print(System.out);
+ * </pre>
+ */
+public final class TrafficReplay {
+
+    // Set by HttpClient itself; it rejects them as request headers
+    private static final Set<String> RESTRICTED_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        RESTRICTED_HEADERS.addAll(Set.of("Connection", "Content-Length", "Expect", "Host", "Upgrade",
+                "Transfer-Encoding", "Keep-Alive"));
+    }
+
+    private final Path capture;
+    private final Class<?> application;
+    private final URI baseUri;
+    private final double speed;
+    private final Map<String, String> headers;
+    private final long limit;
+    private final Duration timeout;
+
+    private TrafficReplay(Builder builder) {
+        this.capture = builder.capture;
+        this.application = builder.application;
+        this.baseUri = builder.baseUri;
+        this.speed = builder.speed;
+        this.headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        this.headers.putAll(builder.headers);
+        this.limit = builder.limit;
+        this.timeout = builder.timeout;
+    }
+
+    /**
+     * Replays the capture and stops the application if it was started here.
+     */
+    public ReplayReport run() throws IOException {
+        HttpServer server = null;
+        URI base = baseUri;
+        if (application != null) {
+            // Loopback on a free port, so a running instance or the configured port is never in the way
+            server = JFastApiApplication.run(application, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            base = URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+        }
+
+        ReplayReport report = new ReplayReport();
+
+        try (CaptureReader reader = new CaptureReader(capture);
+             ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .connectTimeout(timeout)
+                     .executor(clientExecutor)
+                     .build()) {
+
+            long start = System.nanoTime();
+
+            // Closing the executor waits for the requests still in flight
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                long firstTimestamp = -1;
+                for (long i = 0; reader.hasNext() && (limit <= 0 || i < limit); i++) {
+                    CaptureRecord record = reader.next();
+                    if (firstTimestamp < 0) {
+                        firstTimestamp = record.timestampMicros();
+                    }
+
+                    long intended = start + (long) ((record.timestampMicros() - firstTimestamp) * 1000 / speed);
+                    long wait = intended - System.nanoTime();
+                    if (wait > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+
+                    HttpRequest request = buildRequest(base, record);
+                    executor.execute(() -> replay(client, request, record, intended, report));
+                }
+            }
+
+            report.finish(Duration.ofNanos(System.nanoTime() - start));
+            return report;
+        } finally {
+            if (server != null) {
+                JFastApiApplication.stop(server);
+            }
+        }
+    }
+
+    private HttpRequest buildRequest(URI base, CaptureRecord record) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(base.resolve(record.uri()))
+                .timeout(timeout)
+                .method(record.method(), record.body() == null || record.body().length == 0
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(record.body()));
+
+        for (CaptureRecord.Header header : record.headers()) {
+            if (RESTRICTED_HEADERS.contains(header.name()) || headers.containsKey(header.name())
+                    || CaptureInterceptor.REDACTED.equals(header.value())) {
+                continue;
+            }
+            builder.header(header.name(), header.value());
+        }
+        headers.forEach(builder::header);
+        return builder.build();
+    }
+
+    private void replay(HttpClient client, HttpRequest request, CaptureRecord record, long intended,
+                        ReplayReport report) {
+        // Bodies over the capture limit were not captured; replaying them without one would not compare
+        if (record.body() == null) {
+            report.skipped();
+            return;
+        }
+        try {
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            long latency = System.nanoTime() - intended;
+
+            CRC32 crc = new CRC32();
+            crc.update(response.body());
+            boolean bodyMatches = response.body().length == record.responseBytes() && crc.getValue() == record.responseCrc();
+
+            report.completed(record, response.statusCode(), latency, bodyMatches);
+        } catch (IOException ex) {
+            report.error(ex.getClass().getSimpleName());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            report.error(ex.getClass().getSimpleName());
+        }
+    }
+
+    public static class Builder {
+        private Path capture;
+        private Class<?> application;
+        private URI baseUri;
+        private double speed = 1.0;
+        private final Map<String, String> headers = new LinkedHashMap<>();
+        private long limit;
+        private Duration timeout = Duration.ofSeconds(10);
+
+        public Builder capture(Path capture) {
+            this.capture = capture;
+            return this;
+        }
+
+        /**
+         * Starts this application in-process and replays against it over loopback.
+         */
+        public Builder application(Class<?> application) {
+            this.application = application;
+            return this;
+        }
+
+        /**
+         * Targets an already running server, e.g. {@code http://127.0.0.1:8085}.
+         */
+        public Builder baseUri(String baseUri) {
+            this.baseUri = URI.create(baseUri);
+            return this;
+        }
+
+        /**
+         * Replay speed relative to the capture: 1 is original timing, 2 twice as fast.
+         */
+        public Builder speed(double speed) {
+            this.speed = speed;
+            return this;
+        }
+
+        /**
+         * Sets or replaces a header on every replayed request, e.g. a token for a redacted Authorization.
+         */
+        public Builder header(String name, String value) {
+            this.headers.put(name, value);
+            return this;
+        }
+
+        /**
+         * Replays at most {@code limit} records; zero replays all.
+         */
+        public Builder limit(long limit) {
+            this.limit = limit;
+            return this;
+        }
+
+        public Builder timeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        public TrafficReplay build() {
+            if (capture == null) {
+                throw new ApplicationException("A capture file must be set");
+            }
+            if ((application == null) == (baseUri == null)) {
+                throw new ApplicationException("Either an application or a base URI must be set");
+            }
+            if (speed <= 0) {
+                throw new ApplicationException("Replay speed must be positive");
+            }
+            return new TrafficReplay(this);
+        }
+    }
+
+    /**
+     * Command-line entry point, e.g.
+     * <pre>
+     * java -cp app.jar com.jFastApi.capture.TrafficReplay --capture logs/traffic.cap --app com.example.Main --speed 2
+     * java -cp app.jar com.jFastApi.capture.TrafficReplay --capture logs/traffic.cap --url http://127.0.0.1:8085 --header "Authorization:Bearer ..."
+     * </pre>
+     * Options: --capture, --app | --url, --speed, --header Name:Value, --limit.
+     */
+    public static void main(String[] args) throws ClassNotFoundException, IOException {
+        Builder builder = new Builder();
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--capture" -> builder.capture(Path.of(value));
+                case "--app" -> builder.application(Class.forName(value));
+                case "--url" -> builder.baseUri(value);
+                case "--speed" -> builder.speed(Double.parseDouble(value));
+                case "--header" -> {
+                    int colon = value.indexOf(':');
+                    builder.header(value.substring(0, colon).trim(), value.substring(colon + 1).trim());
+                }
+                case "--limit" -> builder.limit(Long.parseLong(value));
+                default -> throw new ApplicationException("Unknown option: " + args[i]);
+            }
+        }
+
+        ReplayReport report = builder.build().run();
+        report.print(System.out);
+        System.exit(0);
+    }
+}
@@ -0,0 +1,29 @@
+package com.jFastApi.codec;
+
+import com.jFastApi.enumeration.ContentType;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Converts request and response bodies between Java objects and one wire format.
+ * Registered in {@link BodyCodecRegistry} and selected by the request's
+ * {@code Content-Type} and {@code Accept} headers.
+ */
+public interface BodyCodec {
+
+    /**
+     * @return the content type this codec reads and writes
+     */
+    ContentType contentType();
+
+    /**
+     * Decodes a request body into the given type.
+     */
+    <T> T read(InputStream input, Class<T> type) throws IOException;
+
+    /**
+     * Encodes a response body.
+     */
+    byte[] write(Object value) throws IOException;
+}
@@ -0,0 +1,193 @@
+package com.jFastApi.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.jFastApi.enumeration.ContentType;
+import com.jFastApi.util.JsonUtility;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of body codecs keyed by content type.
+ * <p>
+ * - Request bodies are decoded with the codec matching the {@code Content-Type} header.
+ * - Response bodies are encoded with the best codec from the {@code Accept} header,
+ * falling back to the content type chosen by the controller; a header that refuses every
+ * codec is answered with 406.
+ * <p>
+ * JSON, CBOR, Smile and MessagePack are registered by default; all Jackson-based codecs
+ * share the framework's buffer recycler pool.
+ */
+public final class BodyCodecRegistry {
+
+    private BodyCodecRegistry() {
+    }
+
+    private static final Map<ContentType, BodyCodec> codecs = new ConcurrentHashMap<>();
+
+    static {
+        register(new JsonBodyCodec());
+
+        register(new JacksonBodyCodec(ContentType.CBOR, new CBORMapper(
+                CBORFactory.builder().recyclerPool(JsonUtility.getRecyclerPool()).build())));
+
+        register(new JacksonBodyCodec(ContentType.SMILE, new SmileMapper(
+                SmileFactory.builder().recyclerPool(JsonUtility.getRecyclerPool()).build())));
+
+        MessagePackFactory messagePackFactory = new MessagePackFactory();
+        messagePackFactory.setRecyclerPool(JsonUtility.getRecyclerPool());
+        register(new JacksonBodyCodec(ContentType.MSGPACK, new ObjectMapper(messagePackFactory)));
+    }
+
+    /**
+     * Registers (or replaces) the codec for its content type.
+     *
+     * @param codec the codec to register
+     */
+    public static void register(BodyCodec codec) {
+        codecs.put(codec.contentType(), codec);
+    }
+
+    /**
+     * Returns the codec registered for the given content type, or null.
+     */
+    public static BodyCodec get(ContentType contentType) {
+        return codecs.get(contentType);
+    }
+
+    /**
+     * Finds the codec for a {@code Content-Type} header value.
+     * Parameters such as {@code charset} are ignored; a missing header means JSON.
+     *
+     * @param header the raw Content-Type header, may be null
+     * @return the matching codec, or null if the media type is not supported
+     */
+    public static BodyCodec forContentType(String header) {
+        if (header == null || header.isBlank()) {
+            return codecs.get(ContentType.JSON);
+        }
+
+        return forMimeType(mediaType(header, 0, header.length()));
+    }
+
+    /**
+     * Picks the response codec for an {@code Accept} header.
+     * <p>
+     * Each codec gets the quality of the most specific media range that matches it
+     * ({@code application/cbor} over {@code application/*} over {@code *}{@code /*}), so
+     * {@code application/json;q=0, *}{@code /*} refuses JSON. Wildcards only select the codec of
+     * {@code fallback}. The acceptable codec with the highest quality wins; ties keep header order.
+     *
+     * @param accept   the raw Accept header, may be null
+     * @param fallback the content type chosen by the controller
+     * @return the codec to use, or null if the header accepts none of the codecs, or there is no
+     * header and {@code fallback} has no codec
+     */
+    public static BodyCodec negotiate(String accept, ContentType fallback) {
+        BodyCodec fallbackCodec = codecs.get(fallback);
+        if (accept == null || accept.isBlank()) {
+            return fallbackCodec;
+        }
+
+        BodyCodec best = null;
+        double bestQuality = 0;
+
+        int start = 0;
+        while (start < accept.length()) {
+            int end = accept.indexOf(',', start);
+            if (end < 0) end = accept.length();
+
+            String mimeType = mediaType(accept, start, end);
+            BodyCodec candidate = mimeType.endsWith("/*") ? fallbackCodec : forMimeType(mimeType);
+
+            if (candidate != null && candidate != best) {
+                double quality = quality(accept, candidate.contentType().getMimeType());
+                if (quality > bestQuality) {
+                    best = candidate;
+                    bestQuality = quality;
+                }
+            }
+            start = end + 1;
+        }
+
+        return best;
+    }
+
+    private static BodyCodec forMimeType(String mimeType) {
+        for (BodyCodec codec : codecs.values()) {
+            if (codec.contentType().getMimeType().equalsIgnoreCase(mimeType)) {
+                return codec;
+            }
+        }
+        return null;
+    }
+
+    // Media type part of a header segment, without parameters
+    private static String mediaType(String header, int start, int end) {
+        int semicolon = header.indexOf(';', start);
+        if (semicolon >= 0 && semicolon < end) {
+            end = semicolon;
+        }
+        return header.substring(start, end).trim();
+    }
+
+    // Quality of a media type under an Accept header: that of its most specific matching range, 0 if none
+    private static double quality(String accept, String mimeType) {
+        int slash = mimeType.indexOf('/');
+        double quality = 0;
+        int specificity = -1;
+
+        int start = 0;
+        while (start < accept.length()) {
+            int end = accept.indexOf(',', start);
+            if (end < 0) end = accept.length();
+
+            String range = mediaType(accept, start, end);
+            int rangeSpecificity;
+            if (range.equalsIgnoreCase(mimeType)) {
+                rangeSpecificity = 2;
+            } else if (range.endsWith("/*") && range.length() == slash + 2
+                    && range.regionMatches(true, 0, mimeType, 0, slash)) {
+                rangeSpecificity = 1;
+            } else if (range.equals("*/*")) {
+                rangeSpecificity = 0;
+            } else {
+                rangeSpecificity = -1;
+            }
+
+            if (rangeSpecificity > specificity) {
+                specificity = rangeSpecificity;
+                quality = qParameter(accept, start, end);
+            }
+            start = end + 1;
+        }
+        return quality;
+    }
+
+    // Value of the "q" parameter of a header segment, 1.0 if absent or malformed
+    private static double qParameter(String header, int start, int end) {
+        int semicolon = header.indexOf(';', start);
+        while (semicolon >= 0 && semicolon < end) {
+            int next = header.indexOf(';', semicolon + 1);
+            if (next < 0 || next > end) {
+                next = end;
+            }
+
+            int equals = header.indexOf('=', semicolon + 1);
+            if (equals >= 0 && equals < next && header.substring(semicolon + 1, equals).trim().equalsIgnoreCase("q")) {
+                try {
+                    return Double.parseDouble(header.substring(equals + 1, next).trim());
+                } catch (NumberFormatException ex) {
+                    return 1.0;
+                }
+            }
+            semicolon = next < end ? next : -1;
+        }
+        return 1.0;
+    }
+}
@@ -0,0 +1,36 @@
+package com.jFastApi.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jFastApi.enumeration.ContentType;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Codec for any Jackson-supported data format (CBOR, Smile, MessagePack, ...).
+ */
+public final class JacksonBodyCodec implements BodyCodec {
+
+    private final ContentType contentType;
+    private final ObjectMapper mapper;
+
+    public JacksonBodyCodec(ContentType contentType, ObjectMapper mapper) {
+        this.contentType = contentType;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public ContentType contentType() {
+        return contentType;
+    }
+
+    @Override
+    public <T> T read(InputStream input, Class<T> type) throws IOException {
+        return mapper.readValue(input, type);
+    }
+
+    @Override
+    public byte[] write(Object value) throws IOException {
+        return mapper.writeValueAsBytes(value);
+    }
+}
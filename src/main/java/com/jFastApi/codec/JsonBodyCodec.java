@@ -0,0 +1,28 @@
+package com.jFastApi.codec;
+
+import com.jFastApi.enumeration.ContentType;
+import com.jFastApi.util.JsonUtility;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * JSON codec backed by {@link JsonUtility}, so generated codecs are used where available.
+ */
+public final class JsonBodyCodec implements BodyCodec {
+
+    @Override
+    public ContentType contentType() {
+        return ContentType.JSON;
+    }
+
+    @Override
+    public <T> T read(InputStream input, Class<T> type) throws IOException {
+        return JsonUtility.fromJson(input, type);
+    }
+
+    @Override
+    public byte[] write(Object value) throws IOException {
+        return JsonUtility.toJsonBytes(value);
+    }
+}
@@ -7,43 +7,110 @@ import com.jFastApi.annotation.RequestBody;
 import com.jFastApi.enumeration.ContentType;
 import com.jFastApi.enumeration.HttpMethod;
 import com.jFastApi.enumeration.HttpStatus;
+import com.jFastApi.exception.UsernameNotFoundException;
 import com.jFastApi.http.Response;
 import com.jFastApi.security.AuthUser;
+import com.jFastApi.security.AuthUserService;
 import com.jFastApi.security.AuthenticationException;
 import com.jFastApi.security.AuthenticationManager;
 import com.jFastApi.security.AuthenticationToken;
+import com.jFastApi.security.ClaimsAuthUser;
+import com.jFastApi.security.RefreshTokenRequest;
+import com.jFastApi.security.RefreshTokenStore;
 import com.jFastApi.util.JwtHelper;
 import com.jFastApi.util.PropertiesUtil;
+import com.jFastApi.util.StringUtility;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 @Bean
 public class AuthenticationController {
 
     private final JwtHelper jwtHelper;
     private final AuthenticationManager authenticationManager;
+    private final AuthUserService authUserService;
+    private final RefreshTokenStore refreshTokenStore;
 
-    public AuthenticationController(JwtHelper jwtHelper, AuthenticationManager authenticationManager) {
+    public AuthenticationController(JwtHelper jwtHelper, AuthenticationManager authenticationManager,
+                                    AuthUserService authUserService, RefreshTokenStore refreshTokenStore) {
         this.jwtHelper = jwtHelper;
         this.authenticationManager = authenticationManager;
+        this.authUserService = authUserService;
+        this.refreshTokenStore = refreshTokenStore;
     }
 
-    @HttpRoute(path = "/login", method = HttpMethod.POST)
+    @HttpRoute(path = "/login", method = HttpMethod.POST, captureBody = false)
     public Response<Map<String, String>> login(@RequestBody AuthenticationToken token) {
 
         AuthUser authenticate = authenticationManager.authenticate(token);
 
+        // Start a new refresh token family
+        String family = UUID.randomUUID().toString();
+        String refreshTokenId = UUID.randomUUID().toString();
+        refreshTokenStore.start(family, refreshTokenId, System.currentTimeMillis() + refreshTokenExpiration());
+
+        return issueTokens(authenticate, family, refreshTokenId);
+    }
+
+    /**
+     * Exchanges a refresh token for a new access token and a new refresh token, without a password check.
+     * The refresh token can be redeemed once: presenting it again revokes its whole family.
+     */
+    @HttpRoute(path = "/refresh", method = HttpMethod.POST, authorized = false, captureBody = false)
+    public Response<Map<String, String>> refresh(@RequestBody RefreshTokenRequest request) {
+
+        if (request == null || StringUtility.isEmpty(request.refreshToken())) {
+            throw new AuthenticationException("Refresh token is required");
+        }
+
+        Claims claims;
+        try {
+            claims = jwtHelper.verify(request.refreshToken());
+        } catch (JwtException | IllegalArgumentException ex) {
+            throw new AuthenticationException("Invalid refresh token");
+        }
+        if (!JwtHelper.REFRESH_TOKEN.equals(claims.get(JwtHelper.TOKEN_TYPE_CLAIM))) {
+            throw new AuthenticationException("Invalid refresh token");
+        }
+
+        // Current roles, and no new tokens for a deleted user
+        AuthUser user;
+        try {
+            user = authUserService.loadUserByUsername(claims.getSubject());
+        } catch (UsernameNotFoundException ex) {
+            throw new AuthenticationException("Invalid refresh token");
+        }
+
+        String family = claims.get(JwtHelper.FAMILY_CLAIM, String.class);
+        String refreshTokenId = UUID.randomUUID().toString();
+        if (!refreshTokenStore.rotate(family, claims.getId(), refreshTokenId,
+                System.currentTimeMillis() + refreshTokenExpiration())) {
+            throw new AuthenticationException("Invalid refresh token");
+        }
+
+        return issueTokens(user, family, refreshTokenId);
+    }
+
+    private Response<Map<String, String>> issueTokens(AuthUser user, String family, String refreshTokenId) {
+
         int accessTokenExpiration = PropertiesUtil.getPropertyInteger(PropertiesUtil.SECURITY_ACCESS_TOKEN_TIMEOUT,
                 18000000);
 
-        int refreshTokenExpiration = PropertiesUtil.getPropertyInteger(PropertiesUtil.SECURITY_REFRESH_TOKEN_TIMEOUT,
-                604800000);
+        Map<String, Object> accessClaims = new HashMap<>();
+        accessClaims.put(ClaimsAuthUser.AUTHORITY_CLAIM, user.getRoles());
+        accessClaims.put(JwtHelper.TOKEN_TYPE_CLAIM, JwtHelper.ACCESS_TOKEN);
 
-        Map<String, Object> claims = new HashMap<>();
-        claims.put("authority", authenticate.getRoles());
-        String accessToken = jwtHelper.generateToken(authenticate.getUsername(), claims, accessTokenExpiration);
-        String refreshToken = jwtHelper.generateToken(authenticate.getUsername(), claims, refreshTokenExpiration);
+        Map<String, Object> refreshClaims = new HashMap<>(accessClaims);
+        refreshClaims.put(JwtHelper.TOKEN_TYPE_CLAIM, JwtHelper.REFRESH_TOKEN);
+        refreshClaims.put(JwtHelper.FAMILY_CLAIM, family);
+        refreshClaims.put(Claims.ID, refreshTokenId);
+
+        String accessToken = jwtHelper.generateToken(user.getUsername(), accessClaims, accessTokenExpiration);
+        String refreshToken = jwtHelper.generateToken(user.getUsername(), refreshClaims, refreshTokenExpiration());
 
         Map<String, String> tokens = new HashMap<>() {{
             put("accessToken", accessToken);
@@ -56,6 +123,10 @@ public class AuthenticationController {
                 .build();
     }
 
+    private static int refreshTokenExpiration() {
+        return PropertiesUtil.getPropertyInteger(PropertiesUtil.SECURITY_REFRESH_TOKEN_TIMEOUT, 604800000);
+    }
+
     @ExceptionHandler(exception = {AuthenticationException.class})
     public Response<Map<String, String>> handleAuthenticationException(AuthenticationException ex) {
         return new Response.Builder<Map<String, String>>()
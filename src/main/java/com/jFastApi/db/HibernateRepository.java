@@ -1,10 +1,14 @@
 package com.jFastApi.db;
 
+import com.jFastApi.AppContext;
+import com.jFastApi.diagnostics.DbSessionEvent;
+import com.jFastApi.metrics.ServerTiming;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Generic Hibernate repository for basic CRUD operations.
@@ -14,7 +18,7 @@ import java.util.function.Consumer;
  */
 public class HibernateRepository<T, ID> {
 
-    private final SessionFactory sessionFactory; // Hibernate SessionFactory to open sessions
+    private final SessionFactory sessionFactory; // Hibernate SessionFactory to open sessions, null for the default
     private final Class<T> entityClass;         // The entity class type
 
     /**
@@ -28,13 +32,23 @@ public class HibernateRepository<T, ID> {
         this.entityClass = entityClass;
     }
 
+    /**
+     * Constructor for a repository on the default SessionFactory.
+     * The factory is looked up on each operation, so this works while it is still being built.
+     *
+     * @param entityClass The entity class managed by this repository.
+     */
+    public HibernateRepository(Class<T> entityClass) {
+        this(null, entityClass);
+    }
+
     /**
      * Persist the given entity.
      *
      * @param entity The entity to save.
      */
     public void save(T entity) {
-        executeTransaction(session -> session.persist(entity));
+        executeTransaction("save", session -> session.persist(entity));
     }
 
     /**
@@ -43,7 +57,7 @@ public class HibernateRepository<T, ID> {
      * @param entity The entity to delete.
      */
     public void delete(T entity) {
-        executeTransaction(session -> session.remove(entity));
+        executeTransaction("delete", session -> session.remove(entity));
     }
 
     /**
@@ -53,9 +67,7 @@ public class HibernateRepository<T, ID> {
      * @return The entity if found, or null if not found.
      */
     public T findById(ID id) {
-        try (var session = sessionFactory.openSession()) {
-            return session.find(entityClass, id);
-        }
+        return withSession("findById", session -> session.find(entityClass, id));
     }
 
     /**
@@ -64,20 +76,20 @@ public class HibernateRepository<T, ID> {
      * @return List of all entities.
      */
     public List<T> findAll() {
-        try (var session = sessionFactory.openSession()) {
-            // Simple HQL query: "from EntityClass"
-            return session.createQuery("from " + entityClass.getSimpleName(), entityClass).list();
-        }
+        // Simple HQL query: "from EntityClass"
+        return withSession("findAll",
+                session -> session.createQuery("from " + entityClass.getSimpleName(), entityClass).list());
     }
 
     /**
      * Executes a transactional action.
      * Handles opening session, starting transaction, committing, and rolling back if an exception occurs.
      *
-     * @param action The action to perform inside a transaction.
+     * @param operation Name of the operation, for diagnostics.
+     * @param action    The action to perform inside a transaction.
      */
-    private void executeTransaction(Consumer<Session> action) {
-        try (var session = sessionFactory.openSession()) {
+    private void executeTransaction(String operation, Consumer<Session> action) {
+        withSession(operation, session -> {
             var tx = session.beginTransaction();
             try {
                 action.accept(session); // Perform the action
@@ -86,6 +98,28 @@ public class HibernateRepository<T, ID> {
                 if (tx != null && tx.isActive()) tx.rollback(); // Rollback if exception occurs
                 throw ex; // Rethrow to propagate exception
             }
+            return null;
+        });
+    }
+
+    /**
+     * Runs an action in a new session, timing it as the DB phase (Server-Timing)
+     * and as a JFR {@link DbSessionEvent}.
+     */
+    private <R> R withSession(String operation, Function<Session, R> action) {
+        long phaseStart = ServerTiming.start();
+        DbSessionEvent event = new DbSessionEvent();
+        event.begin();
+        SessionFactory factory = sessionFactory != null ? sessionFactory : AppContext.getDefaultSessionFactory();
+        try (var session = factory.openSession()) {
+            return action.apply(session);
+        } finally {
+            ServerTiming.stop(ServerTiming.Phase.DB, phaseStart);
+            if (event.shouldCommit()) {
+                event.entity = entityClass;
+                event.operation = operation;
+                event.commit();
+            }
         }
     }
 }
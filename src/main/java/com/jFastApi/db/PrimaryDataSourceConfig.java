@@ -2,8 +2,8 @@ package com.jFastApi.db;
 
 import com.jFastApi.AppContext;
 import com.jFastApi.exception.ApplicationException;
+import com.jFastApi.scan.ComponentIndex;
 import com.jFastApi.util.PropertiesUtil;
-import com.jFastApi.util.ReflectionUtility;
 import com.jFastApi.util.StringUtility;
 import jakarta.persistence.Entity;
 import org.hibernate.SessionFactory;
@@ -118,7 +118,7 @@ public final class PrimaryDataSourceConfig {
 
 
             // Scan for @Entity annotated classes in the base package
-            List<Class<?>> entities = ReflectionUtility.findAnnotatedClasses(
+            List<Class<?>> entities = ComponentIndex.findAnnotatedClasses(
                     AppContext.getBasePackage(), Entity.class
             );
             entities.forEach(cfg::addAnnotatedClass);
@@ -132,6 +132,7 @@ public final class PrimaryDataSourceConfig {
 
         } catch (Exception ex) {
             LOGGER.error("Failed to initialize Default SessionFactory", ex);
+            AppContext.failDefaultSessionFactory(ex);
             throw new ApplicationException("Hibernate initialization failed");
         }
     }
@@ -0,0 +1,22 @@
+package com.jFastApi.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event spanning a Hibernate session opened by {@code HibernateRepository}.
+ * Records the stack trace, so slow sessions can be traced back to their caller.
+ */
+@Name("jfastapi.DbSession")
+@Label("Database Session")
+@Category({"JFastApi", "Database"})
+public final class DbSessionEvent extends Event {
+
+    @Label("Entity")
+    public Class<?> entity;
+
+    @Label("Operation")
+    public String operation;
+}
@@ -0,0 +1,37 @@
+package com.jFastApi.diagnostics;
+
+import com.jFastApi.enumeration.ContentType;
+import com.jFastApi.enumeration.HttpStatus;
+import com.jFastApi.exception.ApplicationException;
+import com.jFastApi.util.ResponseUtility;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+/**
+ * Serves runtime diagnostics as JSON. Currently only {@code <path>/pinning}, the
+ * virtual-thread pinning report of {@link PinningMonitor}.
+ * <p>
+ * Registered as its own HttpServer context; it exposes stack traces, so it is disabled by default.
+ */
+public final class DiagnosticsHandler implements HttpHandler {
+
+    private final String pinningPath;
+
+    public DiagnosticsHandler(String basePath) {
+        this.pinningPath = basePath + "/pinning";
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) {
+        if (!exchange.getRequestURI().getPath().equals(pinningPath)) {
+            ResponseUtility.sendErrorResponse(new ApplicationException("Not Found"), exchange, HttpStatus.NOT_FOUND);
+            return;
+        }
+        if (!exchange.getRequestMethod().equalsIgnoreCase("GET")) {
+            ResponseUtility.sendErrorResponse(new ApplicationException("Method Not Allowed"), exchange, HttpStatus.METHOD_NOT_ALLOWED);
+            return;
+        }
+
+        ResponseUtility.sendResponse(exchange, HttpStatus.OK, ContentType.JSON, (Object) PinningMonitor.snapshot());
+    }
+}
@@ -0,0 +1,23 @@
+package com.jFastApi.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning the invocation of a controller method.
+ */
+@Name("jfastapi.Handler")
+@Label("Route Handler")
+@Category({"JFastApi", "HTTP"})
+@StackTrace(false)
+public final class HandlerEvent extends Event {
+
+    @Label("Route")
+    public String route;
+
+    @Label("Handler")
+    public String handler;
+}
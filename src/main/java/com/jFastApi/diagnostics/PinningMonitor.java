@@ -0,0 +1,205 @@
+package com.jFastApi.diagnostics;
+
+import com.jFastApi.util.PropertiesUtil;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Summarizes {@code jdk.VirtualThreadPinned} events by route and stack.
+ * <p>
+ * An in-process JFR {@link RecordingStream} receives pinned events together with the
+ * framework's {@link RequestEvent}s. Each request runs on its own virtual thread, so a
+ * pinned event is attributed to the route of the request event committed later on the
+ * same thread. Pinning on threads that never complete a request (background tasks,
+ * startup) is reported under the route {@code -}.
+ */
+public final class PinningMonitor {
+
+    private PinningMonitor() {
+    }
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String NO_ROUTE = "-";
+
+    private static final int STACK_DEPTH = 8;
+    private static final int MAX_ENTRIES = 512;
+    private static final Duration PENDING_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final Map<String, PinSummary> summaries = new ConcurrentHashMap<>();
+    private static final AtomicLong overflow = new AtomicLong();
+
+    // Only touched by the stream thread: thread id -> pinned events awaiting their request
+    private static final Map<Long, List<RecordedEvent>> pending = new HashMap<>();
+
+    private static volatile long thresholdMillis;
+    private static volatile RecordingStream stream;
+
+    /**
+     * Starts the JFR stream. Does nothing if already started.
+     */
+    public static synchronized void start() {
+        if (stream != null) {
+            return;
+        }
+
+        thresholdMillis = PropertiesUtil.getPropertyInteger(PropertiesUtil.DIAGNOSTICS_PINNING_THRESHOLD_MS, 20);
+
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(thresholdMillis)).withStackTrace();
+        stream.enable(RequestEvent.NAME);
+        stream.onEvent(PINNED_EVENT, PinningMonitor::onPinned);
+        stream.onEvent(RequestEvent.NAME, PinningMonitor::onRequest);
+        stream.onFlush(PinningMonitor::expirePending);
+        stream.startAsync();
+
+        LOGGER.info("Virtual thread pinning monitor started (threshold {} ms)", thresholdMillis);
+    }
+
+    /**
+     * Stops the JFR stream.
+     */
+    public static synchronized void shutdown() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    public static boolean isRunning() {
+        return stream != null;
+    }
+
+    /**
+     * @return summaries ordered by total pinned time, longest first
+     */
+    public static Map<String, Object> snapshot() {
+        // Copy first: summaries keep changing while the endpoint sorts them
+        List<Map<String, Object>> entries = new ArrayList<>();
+        summaries.values().forEach(summary -> entries.add(summary.toMap()));
+        entries.sort(Comparator.comparingDouble((Map<String, Object> entry) -> (double) entry.get("totalMillis")).reversed());
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("running", isRunning());
+        report.put("thresholdMillis", thresholdMillis);
+        report.put("droppedStacks", overflow.get());
+        report.put("pinned", entries);
+        return report;
+    }
+
+    private static void onPinned(RecordedEvent event) {
+        RecordedThread thread = event.getThread();
+        if (thread == null) {
+            record(NO_ROUTE, event);
+            return;
+        }
+        pending.computeIfAbsent(thread.getJavaThreadId(), k -> new ArrayList<>()).add(event);
+    }
+
+    private static void onRequest(RecordedEvent event) {
+        RecordedThread thread = event.getThread();
+        if (thread == null) {
+            return;
+        }
+        List<RecordedEvent> pinned = pending.remove(thread.getJavaThreadId());
+        if (pinned == null) {
+            return;
+        }
+        String route = event.getString("route");
+        String key = event.getString("method") + " " + (route != null ? route : "unmatched");
+        for (RecordedEvent pinnedEvent : pinned) {
+            record(key, pinnedEvent);
+        }
+    }
+
+    // Pinned events whose thread never completed a request are not request related
+    private static void expirePending() {
+        Instant cutoff = Instant.now().minus(PENDING_TIMEOUT);
+        pending.values().removeIf(events -> {
+            if (events.getLast().getEndTime().isAfter(cutoff)) {
+                return false;
+            }
+            events.forEach(event -> record(NO_ROUTE, event));
+            return true;
+        });
+    }
+
+    private static void record(String route, RecordedEvent event) {
+        List<String> stack = stackOf(event);
+        String key = route + '\n' + String.join("\n", stack);
+
+        PinSummary summary = summaries.get(key);
+        if (summary == null) {
+            if (summaries.size() >= MAX_ENTRIES) {
+                overflow.incrementAndGet();
+                return;
+            }
+            summary = summaries.computeIfAbsent(key, k -> new PinSummary(route, stack));
+        }
+        summary.add(event.getDuration().toNanos());
+    }
+
+    private static List<String> stackOf(RecordedEvent event) {
+        List<String> stack = new ArrayList<>(STACK_DEPTH);
+        if (event.getStackTrace() == null) {
+            return stack;
+        }
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            if (stack.size() == STACK_DEPTH) {
+                break;
+            }
+            stack.add(frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                    + ":" + frame.getLineNumber());
+        }
+        return stack;
+    }
+
+    /**
+     * Aggregated pinning of one route and stack. Written by the stream thread, read by the endpoint.
+     */
+    private static final class PinSummary {
+
+        private final String route;
+        private final List<String> stack;
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+
+        private PinSummary(String route, List<String> stack) {
+            this.route = route;
+            this.stack = List.copyOf(stack);
+        }
+
+        private synchronized void add(long nanos) {
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        private synchronized Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("route", route);
+            map.put("count", count);
+            map.put("totalMillis", totalNanos / 1_000_000.0);
+            map.put("maxMillis", maxNanos / 1_000_000.0);
+            map.put("stack", stack);
+            return map;
+        }
+    }
+}
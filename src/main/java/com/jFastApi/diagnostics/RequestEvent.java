@@ -0,0 +1,34 @@
+package com.jFastApi.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning the dispatch of one request, from receipt until the response is sent.
+ */
+@Name(RequestEvent.NAME)
+@Label("HTTP Request")
+@Category({"JFastApi", "HTTP"})
+@Description("Dispatch of one HTTP request")
+@StackTrace(false)
+public final class RequestEvent extends Event {
+
+    public static final String NAME = "jfastapi.Request";
+
+    @Label("Method")
+    public String method;
+
+    @Label("Path")
+    public String path;
+
+    @Label("Route")
+    @Description("Matched route path, or null if no route matched")
+    public String route;
+
+    @Label("Status")
+    public int status;
+}
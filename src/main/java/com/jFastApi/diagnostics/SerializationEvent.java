@@ -0,0 +1,28 @@
+package com.jFastApi.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning the encoding of a response body.
+ */
+@Name("jfastapi.Serialization")
+@Label("Response Serialization")
+@Category({"JFastApi", "HTTP"})
+@StackTrace(false)
+public final class SerializationEvent extends Event {
+
+    @Label("Content Type")
+    public String contentType;
+
+    @Label("Body Type")
+    public Class<?> bodyType;
+
+    @Label("Size")
+    @DataAmount
+    public long bytes;
+}
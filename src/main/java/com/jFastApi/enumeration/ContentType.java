@@ -6,7 +6,10 @@ public enum ContentType {
     HTML("text/html"),
     TEXT("text/plain"),
     FORM("application/x-www-form-urlencoded"),
-    MULTIPART("multipart/form-data");
+    MULTIPART("multipart/form-data"),
+    CBOR("application/cbor"),
+    SMILE("application/x-jackson-smile"),
+    MSGPACK("application/msgpack");
 
     private final String mimeType;
 
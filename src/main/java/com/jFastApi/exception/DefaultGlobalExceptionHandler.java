@@ -13,6 +13,15 @@ class DefaultGlobalExceptionHandler implements ExceptionHandlerInvoker {
 
     @Override
     public void handle(Throwable ex, HttpExchange exchange) {
+        if (ex instanceof ServiceUnavailableException unavailable) {
+            // e.g. a repository used before the deferred SessionFactory is ready
+            try (exchange) {
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                ResponseUtility.sendErrorResponse(unavailable, exchange, HttpStatus.SERVICE_UNAVAILABLE);
+            }
+            return;
+        }
+
         LOGGER.error("Unhandled exception: {}", ex.getMessage());
 
         try (exchange) {
@@ -2,7 +2,7 @@ package com.jFastApi.exception;
 
 import com.jFastApi.BeanFactory;
 import com.jFastApi.annotation.ExceptionHandler;
-import com.jFastApi.util.ReflectionUtility;
+import com.jFastApi.scan.ComponentIndex;
 import com.jFastApi.util.ResponseUtility;
 import com.sun.net.httpserver.HttpExchange;
 
@@ -42,8 +42,8 @@ public final class ExceptionHandlerRegistry {
      */
     public static void scanPackage(String basePackage, String internalBasePackage) {
         // Find all methods annotated with @ExceptionHandler
-        List<Method> methods = ReflectionUtility.findAnnotatedMethods(basePackage, ExceptionHandler.class);
-        List<Method> internalMethods = ReflectionUtility.findAnnotatedMethods(internalBasePackage, ExceptionHandler.class);
+        List<Method> methods = ComponentIndex.findAnnotatedMethods(basePackage, ExceptionHandler.class);
+        List<Method> internalMethods = ComponentIndex.findAnnotatedMethods(internalBasePackage, ExceptionHandler.class);
 
         register(methods);
         register(internalMethods);
@@ -1,7 +1,22 @@
 package com.jFastApi.exception;
 
 public class TooManyRequestException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
     public TooManyRequestException(String message) {
+        this(message, 1);
+    }
+
+    public TooManyRequestException(String message, long retryAfterSeconds) {
         super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * @return the Retry-After header value sent with the 429 response
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
     }
 }
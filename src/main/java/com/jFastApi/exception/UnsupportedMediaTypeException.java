@@ -0,0 +1,7 @@
+package com.jFastApi.exception;
+
+public class UnsupportedMediaTypeException extends RuntimeException {
+    public UnsupportedMediaTypeException(String message) {
+        super(message);
+    }
+}
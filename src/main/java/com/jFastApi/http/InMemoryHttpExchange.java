@@ -0,0 +1,180 @@
+package com.jFastApi.http;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpContext;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpPrincipal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link HttpExchange} backed by memory instead of a socket.
+ * <p>
+ * Lets the dispatcher run the full pipeline (interceptors, parameter binding, handler,
+ * serialization) without a server. The response body is captured and can be read back.
+ * An exchange can be reused with {@link #reset()}, so tight loops such as benchmarks
+ * allocate nothing per call for the exchange itself.
+ */
+public final class InMemoryHttpExchange extends HttpExchange {
+
+    private static final InetSocketAddress REMOTE = new InetSocketAddress("127.0.0.1", 50000);
+    private static final InetSocketAddress LOCAL = new InetSocketAddress("127.0.0.1", 0);
+
+    private final String method;
+    private final URI uri;
+    private final Headers requestHeaders = new Headers();
+    private final Headers responseHeaders = new Headers();
+    private final ByteArrayInputStream requestBody;
+    private final ByteArrayOutputStream responseBody = new ByteArrayOutputStream();
+    private InputStream in;
+    private OutputStream out;
+    private final Map<String, Object> attributes = new HashMap<>();
+    private int responseCode = -1;
+
+    public InMemoryHttpExchange(String method, String uri, Map<String, String> headers, byte[] body) {
+        this.method = method;
+        this.uri = URI.create(uri);
+        this.requestBody = new ByteArrayInputStream(body == null ? new byte[0] : body);
+        this.in = requestBody;
+        this.out = responseBody;
+        if (headers != null) {
+            headers.forEach(requestHeaders::set);
+        }
+        if (body != null && !requestHeaders.containsKey("Content-Length")) {
+            requestHeaders.set("Content-Length", String.valueOf(body.length));
+        }
+    }
+
+    /**
+     * Rewinds the request body and clears the response, so the exchange can be dispatched again.
+     */
+    public void reset() {
+        requestBody.reset();
+        responseHeaders.clear();
+        responseBody.reset();
+        in = requestBody;
+        out = responseBody;
+        attributes.clear();
+        responseCode = -1;
+    }
+
+    /**
+     * @return the response body written so far
+     */
+    public byte[] getResponseBytes() {
+        return responseBody.toByteArray();
+    }
+
+    /**
+     * @return the number of response body bytes written, without copying them
+     */
+    public int getResponseSize() {
+        return responseBody.size();
+    }
+
+    @Override
+    public Headers getRequestHeaders() {
+        return requestHeaders;
+    }
+
+    @Override
+    public Headers getResponseHeaders() {
+        return responseHeaders;
+    }
+
+    @Override
+    public URI getRequestURI() {
+        return uri;
+    }
+
+    @Override
+    public String getRequestMethod() {
+        return method;
+    }
+
+    @Override
+    public HttpContext getHttpContext() {
+        return null;
+    }
+
+    @Override
+    public void close() {
+        // Like HttpServer, closing the exchange closes the (possibly wrapped) response stream
+        try {
+            out.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    @Override
+    public InputStream getRequestBody() {
+        return in;
+    }
+
+    @Override
+    public OutputStream getResponseBody() {
+        return out;
+    }
+
+    @Override
+    public void sendResponseHeaders(int rCode, long responseLength) {
+        responseCode = rCode;
+        // Mirror HttpServer, which announces fixed-length bodies with Content-Length
+        if (responseLength > 0) {
+            responseHeaders.set("Content-Length", String.valueOf(responseLength));
+        }
+    }
+
+    @Override
+    public InetSocketAddress getRemoteAddress() {
+        return REMOTE;
+    }
+
+    @Override
+    public int getResponseCode() {
+        return responseCode;
+    }
+
+    @Override
+    public InetSocketAddress getLocalAddress() {
+        return LOCAL;
+    }
+
+    @Override
+    public String getProtocol() {
+        return "HTTP/1.1";
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        attributes.put(name, value);
+    }
+
+    @Override
+    public void setStreams(InputStream i, OutputStream o) {
+        if (i != null) {
+            in = i;
+        }
+        if (o != null) {
+            out = o;
+        }
+    }
+
+    @Override
+    public HttpPrincipal getPrincipal() {
+        return null;
+    }
+}
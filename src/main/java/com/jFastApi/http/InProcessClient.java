@@ -0,0 +1,78 @@
+package com.jFastApi.http;
+
+import com.jFastApi.JFastApiApplication;
+import com.jFastApi.util.JsonUtility;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Sends requests straight into the dispatcher, without sockets.
+ * <p>
+ * Requests go through the same pipeline as network requests: route lookup, interceptors,
+ * parameter binding, the handler, exception handlers and response encoding. Useful for
+ * tests and benchmarks of route logic. Safe to use from many threads.
+ * <pre>
+ * InProcessClient client = InProcessClient.start(Main.class);
+ * InProcessResponse response = client.get("/todo/find-all");
+ * </pre>
+ */
+public final class InProcessClient {
+
+    private InProcessClient() {
+    }
+
+    /**
+     * Initializes the application (beans, routes, interceptors...) without binding a port.
+     *
+     * @param application the application's main class
+     */
+    public static InProcessClient start(Class<?> application) {
+        JFastApiApplication.initialize(application);
+        return new InProcessClient();
+    }
+
+    /**
+     * Client for an application that is already initialized, e.g. by {@link JFastApiApplication#run(Class)}.
+     */
+    public static InProcessClient attach() {
+        return new InProcessClient();
+    }
+
+    public InProcessResponse get(String uri) {
+        return send("GET", uri, null, null);
+    }
+
+    public InProcessResponse get(String uri, Map<String, String> headers) {
+        return send("GET", uri, headers, null);
+    }
+
+    /**
+     * Sends {@code body} encoded as JSON.
+     */
+    public InProcessResponse post(String uri, Object body) throws IOException {
+        return send("POST", uri, Map.of("Content-Type", "application/json"), JsonUtility.toJsonBytes(body));
+    }
+
+    public InProcessResponse put(String uri, Object body) throws IOException {
+        return send("PUT", uri, Map.of("Content-Type", "application/json"), JsonUtility.toJsonBytes(body));
+    }
+
+    public InProcessResponse delete(String uri) {
+        return send("DELETE", uri, null, null);
+    }
+
+    public InProcessResponse send(String method, String uri, Map<String, String> headers, byte[] body) {
+        InMemoryHttpExchange exchange = new InMemoryHttpExchange(method, uri, headers, body);
+        RouteScanner.handleRootEndpoint(exchange);
+        return new InProcessResponse(exchange.getResponseCode(), exchange.getResponseHeaders(), exchange.getResponseBytes());
+    }
+
+    /**
+     * Dispatches a caller-owned exchange; call {@link InMemoryHttpExchange#reset()} before reusing it.
+     * Avoids all client-side allocation in tight loops.
+     */
+    public void dispatch(InMemoryHttpExchange exchange) {
+        RouteScanner.handleRootEndpoint(exchange);
+    }
+}
@@ -0,0 +1,40 @@
+package com.jFastApi.http;
+
+import com.jFastApi.codec.BodyCodec;
+import com.jFastApi.codec.BodyCodecRegistry;
+import com.jFastApi.exception.UnsupportedMediaTypeException;
+import com.sun.net.httpserver.Headers;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Response returned by {@link InProcessClient}.
+ *
+ * @param status  the HTTP status code
+ * @param headers the response headers
+ * @param body    the response body (empty if none)
+ */
+public record InProcessResponse(int status, Headers headers, byte[] body) {
+
+    public String header(String name) {
+        return headers.getFirst(name);
+    }
+
+    public String bodyAsString() {
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Decodes the body with the codec matching the response Content-Type.
+     */
+    public <T> T bodyAs(Class<T> type) throws IOException {
+        String contentType = header("Content-Type");
+        BodyCodec codec = BodyCodecRegistry.forContentType(contentType);
+        if (codec == null) {
+            throw new UnsupportedMediaTypeException("Unsupported Content-Type: " + contentType);
+        }
+        return codec.read(new ByteArrayInputStream(body), type);
+    }
+}
@@ -1,10 +1,16 @@
 package com.jFastApi.http;
 
+import com.jFastApi.annotation.FilePart;
+import com.jFastApi.annotation.FormField;
 import com.jFastApi.annotation.RequestBody;
 import com.jFastApi.annotation.RequestParam;
+import com.jFastApi.codec.BodyCodec;
+import com.jFastApi.codec.BodyCodecRegistry;
 import com.jFastApi.exception.ApplicationException;
 import com.jFastApi.enumeration.HttpMethod;
-import com.jFastApi.util.JsonUtility;
+import com.jFastApi.exception.UnsupportedMediaTypeException;
+import com.jFastApi.http.form.FormData;
+import com.jFastApi.http.form.UploadedFile;
 import com.jFastApi.util.RequestUtility;
 import com.sun.net.httpserver.HttpExchange;
 
@@ -20,14 +26,17 @@ public final class ParameterResolver {
 
     /**
      * Resolves the method parameters for a controller method based on annotations.
-     * Supports @RequestBody for POST/PUT bodies and @RequestParam for query parameters.
+     * Supports @RequestBody for POST/PUT bodies (decoded by Content-Type), @RequestParam for query parameters,
+     * and @FormField/@FilePart for urlencoded and multipart form bodies.
      *
      * @param exchange The HttpExchange object for the incoming request.
-     * @param method   The controller method whose parameters need to be resolved.
+     * @param route    The matched route whose handler parameters need to be resolved.
      * @return An array of objects representing the arguments to pass to the method.
      * @throws IOException If reading the request body fails.
      */
-    static Object[] resolve(HttpExchange exchange, Method method) throws IOException {
+    static Object[] resolve(HttpExchange exchange, Route route) throws IOException {
+
+        Method method = route.handlerMethod();
 
         // Get all parameters of the method
         Parameter[] params = method.getParameters();
@@ -42,17 +51,25 @@ public final class ParameterResolver {
         for (int i = 0; i < paramsLength; i++) {
             Parameter param = params[i];
 
-            // Handle @RequestBody: deserialize JSON body to parameter type
+            // Inject the raw exchange when requested
             if (param.getType().equals(HttpExchange.class)) {
                 args[i] = exchange;
                 continue;
             }
 
+            // Handle @RequestBody: decode the body to the parameter type
             if (param.isAnnotationPresent(RequestBody.class)) {
                 if (!httpMethod.equals(HttpMethod.POST) && !httpMethod.equals(HttpMethod.PUT)) {
                     throw new ApplicationException("@RequestBody only allowed for POST/PUT methods");
                 }
-                args[i] = JsonUtility.fromJson(exchange.getRequestBody(), param.getType());
+
+                // Pick the body codec from the Content-Type header (JSON when absent)
+                String contentType = RequestUtility.getHeader(exchange, "Content-Type");
+                BodyCodec codec = BodyCodecRegistry.forContentType(contentType);
+                if (codec == null) {
+                    throw new UnsupportedMediaTypeException("Unsupported Content-Type: " + contentType);
+                }
+                args[i] = codec.read(exchange.getRequestBody(), param.getType());
                 continue;
             }
 
@@ -73,6 +90,37 @@ public final class ParameterResolver {
                 continue;
             }
 
+            // Handle @FormField: value of a urlencoded or multipart form field
+            if (param.isAnnotationPresent(FormField.class)) {
+                FormField ff = param.getAnnotation(FormField.class);
+                String value = FormData.get(exchange, route).getField(ff.name());
+                if (value == null) {
+                    if (ff.required() && ff.defaultValue().isEmpty()) {
+                        throw new ApplicationException("Missing required form field: " + ff.name());
+                    }
+                    value = ff.defaultValue();
+                }
+
+                args[i] = convertType(value, param.getType());
+                continue;
+            }
+
+            // Handle @FilePart: streamed multipart upload
+            if (param.isAnnotationPresent(FilePart.class)) {
+                FilePart fp = param.getAnnotation(FilePart.class);
+                if (!param.getType().equals(UploadedFile.class)) {
+                    throw new ApplicationException("@FilePart parameter must be of type UploadedFile: " + param);
+                }
+
+                UploadedFile file = FormData.get(exchange, route).getFile(fp.name());
+                if (file == null && fp.required()) {
+                    throw new ApplicationException("Missing required file part: " + fp.name());
+                }
+
+                args[i] = file;
+                continue;
+            }
+
             // If parameter does not have supported annotations, throw an exception
             throw new ApplicationException("Unsupported parameter binding for: " + param);
         }
@@ -1,6 +1,7 @@
 package com.jFastApi.http;
 
 import com.jFastApi.enumeration.HttpMethod;
+import com.jFastApi.security.RateLimitPolicy;
 
 import java.lang.reflect.Method;
 import java.util.List;
@@ -16,7 +17,12 @@ public record Route(
         int limit,
         TimeUnit timeUnit,
         int time,
-        boolean disableRateLimiter
+        boolean disableRateLimiter,
+        RateLimitPolicy rateLimit,
+        long maxRequestSize,
+        long maxFileSize,
+        boolean serverTiming,
+        boolean captureBody
 ) {
 }
 
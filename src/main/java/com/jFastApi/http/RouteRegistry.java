@@ -2,7 +2,9 @@ package com.jFastApi.http;
 
 import com.jFastApi.enumeration.HttpMethod;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -54,5 +56,14 @@ final class RouteRegistry {
     static boolean hasPath(String path) {
         return routes.containsKey(path);
     }
+
+    /**
+     * @return a snapshot of all registered routes
+     */
+    static List<Route> getRoutes() {
+        List<Route> all = new ArrayList<>();
+        routes.values().forEach(methodMap -> all.addAll(methodMap.values()));
+        return all;
+    }
 }
 
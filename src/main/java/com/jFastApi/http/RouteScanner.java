@@ -2,14 +2,28 @@ package com.jFastApi.http;
 
 import com.jFastApi.BeanFactory;
 import com.jFastApi.annotation.HttpRoute;
+import com.jFastApi.diagnostics.DiagnosticsHandler;
+import com.jFastApi.diagnostics.HandlerEvent;
+import com.jFastApi.diagnostics.PinningMonitor;
+import com.jFastApi.diagnostics.RequestEvent;
 import com.jFastApi.enumeration.HttpMethod;
 import com.jFastApi.enumeration.HttpStatus;
 import com.jFastApi.exception.*;
+import com.jFastApi.http.form.FormData;
 import com.jFastApi.http.interceptor.Interceptor;
 import com.jFastApi.http.interceptor.InterceptorRegistry;
+import com.jFastApi.log.AccessLog;
+import com.jFastApi.metrics.MetricsHandler;
+import com.jFastApi.metrics.MetricsRegistry;
+import com.jFastApi.metrics.ServerTiming;
+import com.jFastApi.scan.ComponentIndex;
 import com.jFastApi.security.AuthenticationException;
-import com.jFastApi.util.ReflectionUtility;
+import com.jFastApi.security.RateLimitPolicy;
+import com.jFastApi.security.SecurityContext;
+import com.jFastApi.util.PropertiesUtil;
 import com.jFastApi.util.ResponseUtility;
+import com.jFastApi.util.StringUtility;
+import com.jFastApi.util.TimeUtility;
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpServer;
 import io.jsonwebtoken.ExpiredJwtException;
@@ -40,14 +54,15 @@ public class RouteScanner {
      */
     public static void scanAndRegister(String basePackage, String internalBasePackage) {
         // Find all methods annotated with @HttpRoute in the package
-        List<Method> methods = ReflectionUtility.findAnnotatedMethods(basePackage, HttpRoute.class);
-        List<Method> internalMethod = ReflectionUtility.findAnnotatedMethods(internalBasePackage, HttpRoute.class);
+        List<Method> methods = ComponentIndex.findAnnotatedMethods(basePackage, HttpRoute.class);
+        List<Method> internalMethod = ComponentIndex.findAnnotatedMethods(internalBasePackage, HttpRoute.class);
 
         registerRoutes(methods);
         registerRoutes(internalMethod);
     }
 
-    private static void registerRoutes(List<Method> methods) {
+    // Package-private so the benchmarks can register routes without classpath scanning
+    static void registerRoutes(List<Method> methods) {
 
         for (Method method : methods) {
 
@@ -65,7 +80,7 @@ public class RouteScanner {
             }
 
             // Register discovered route into central registry
-            RouteRegistry.register(new Route(
+            Route registered = new Route(
                     route.path(),              // Path (e.g., "/users")
                     route.method(),            // HTTP method (GET, POST, etc.)
                     method,                    // Handler method reference
@@ -75,8 +90,18 @@ public class RouteScanner {
                     route.limit(),
                     route.timeUnit(),
                     route.time(),
+                    route.disableRateLimiter(),
                     route.disableRateLimiter()
-            ));
+                            ? null
+                            : new RateLimitPolicy(route.method() + " " + route.path(), route.limit(),
+                            TimeUtility.toDuration(route.time(), route.timeUnit())),
+                    route.maxRequestSize() < 0 ? FormData.DEFAULT_MAX_REQUEST_SIZE : route.maxRequestSize(),
+                    route.maxFileSize() < 0 ? FormData.DEFAULT_MAX_FILE_SIZE : route.maxFileSize(),
+                    route.serverTiming(),
+                    route.captureBody()
+            );
+            RouteRegistry.register(registered);
+            MetricsRegistry.register(registered);
         }
     }
 
@@ -94,14 +119,51 @@ public class RouteScanner {
 
         // Attach a handler for all paths ("root" dispatcher)
         server.createContext("/", RouteScanner::handleRootEndpoint);
+
+        // Metrics are served outside the dispatcher so scrapes skip interceptors and are not measured.
+        // That also bypasses security, so they are opt-in
+        if (MetricsRegistry.isEnabled()) {
+            checkNoRouteUnder(MetricsRegistry.getPath(), PropertiesUtil.METRICS_PATH);
+            server.createContext(MetricsRegistry.getPath(), new MetricsHandler());
+        }
+
+        // Diagnostics expose stack traces and cost a JFR stream, so they are opt-in
+        if (PropertiesUtil.getPropertyBoolean(PropertiesUtil.DIAGNOSTICS_ENABLED, false)) {
+            String path = PropertiesUtil.getProperty(PropertiesUtil.DIAGNOSTICS_PATH);
+            path = StringUtility.isEmpty(path) ? "/diagnostics" : path;
+            checkNoRouteUnder(path, PropertiesUtil.DIAGNOSTICS_PATH);
+            PinningMonitor.start();
+            server.createContext(path, new DiagnosticsHandler(path));
+        }
     }
 
-    private static void handleRootEndpoint(HttpExchange exchange) {
+    /**
+     * A context takes every request whose path starts with its own, so it would silently shadow such routes.
+     */
+    private static void checkNoRouteUnder(String contextPath, String property) {
+        for (Route route : RouteRegistry.getRoutes()) {
+            if (route.path().startsWith(contextPath)) {
+                throw new ApplicationException("Route " + route.method() + " " + route.path() + " in "
+                        + route.controllerClass().getName() + " is shadowed by " + contextPath
+                        + ", change the route or " + property);
+            }
+        }
+    }
+
+    // Package-private: also entered by InProcessClient with an in-memory exchange
+    static void handleRootEndpoint(HttpExchange exchange) {
+
+        long startNanos = System.nanoTime();
+        MetricsRegistry.requestStarted();
+
+        RequestEvent requestEvent = new RequestEvent();
+        requestEvent.begin();
 
         // Get registered interceptors
         Collection<Interceptor> interceptors = InterceptorRegistry.getInterceptors();
 
         Route route = null; // declare here so it's visible in catch blocks
+        Throwable failure = null; // recorded in metrics once the response is sent
 
         try {
             // Extract path and method from incoming request
@@ -130,47 +192,99 @@ public class RouteScanner {
                 return;
             }
 
+            MetricsRegistry.routeMatched(route);
+            ServerTiming.begin(exchange, route, startNanos);
+
             // Run preHandle
-            for (Interceptor interceptor : interceptors) {
-                if (!interceptor.preHandle(exchange, route)) {
-                    return; // stop if interceptor blocks request
+            // (phases are timed in finally so blocked and failed requests still report their time)
+            long phaseStart = ServerTiming.start();
+            try {
+                for (Interceptor interceptor : interceptors) {
+                    if (!interceptor.preHandle(exchange, route)) {
+                        return; // stop if interceptor blocks request
+                    }
                 }
+            } finally {
+                ServerTiming.stop(ServerTiming.Phase.INTERCEPTORS, phaseStart);
             }
 
             // Get controller instance from BeanFactory (DI)
             Object controllerClass = BeanFactory.getBeanInstance(route.controllerClass());
 
             // Resolve parameters for handler method (query, body, headers, etc.)
-            Object[] params = ParameterResolver.resolve(exchange, route.handlerMethod());
+            Object[] params;
+            phaseStart = ServerTiming.start();
+            try {
+                params = ParameterResolver.resolve(exchange, route);
+            } finally {
+                ServerTiming.stop(ServerTiming.Phase.RESOLVE, phaseStart);
+            }
 
             // Invoke the controller method with resolved parameters
-            Object result = route.handlerMethod().invoke(controllerClass, params);
+            Object result;
+            phaseStart = ServerTiming.start();
+            HandlerEvent handlerEvent = new HandlerEvent();
+            handlerEvent.begin();
+            try {
+                result = route.handlerMethod().invoke(controllerClass, params);
+            } finally {
+                ServerTiming.stop(ServerTiming.Phase.HANDLER, phaseStart);
+                if (handlerEvent.shouldCommit()) {
+                    handlerEvent.route = route.path();
+                    handlerEvent.handler = route.controllerClass().getName() + "." + route.handlerMethod().getName();
+                    handlerEvent.commit();
+                }
+            }
 
             // Run postHandle
-            for (Interceptor interceptor : interceptors) {
-                result = interceptor.postHandle(exchange, route, result);
+            phaseStart = ServerTiming.start();
+            try {
+                for (Interceptor interceptor : interceptors) {
+                    result = interceptor.postHandle(exchange, route, result);
+                }
+            } finally {
+                ServerTiming.stop(ServerTiming.Phase.POST, phaseStart);
             }
 
             // Send the method's return value as HTTP response
             ResponseUtility.sendResponse(result, exchange);
 
+        } catch (PayloadTooLargeException ex) {
+            failure = ex;
+
+            ResponseUtility.sendErrorResponse(ex, exchange, HttpStatus.PAYLOAD_TOO_LARGE);
+        } catch (UnsupportedMediaTypeException ex) {
+            failure = ex;
+
+            ResponseUtility.sendErrorResponse(ex, exchange, HttpStatus.UNSUPPORTED_MEDIA_TYPE);
+        } catch (ServiceUnavailableException ex) {
+            failure = ex;
+
+            exchange.getResponseHeaders().set("Retry-After", "1");
+            ResponseUtility.sendErrorResponse(ex, exchange, HttpStatus.SERVICE_UNAVAILABLE);
         } catch (TooManyRequestException ex) {
+            failure = ex;
 
-            ResponseUtility.sendErrorResponse(ex, exchange, HttpStatus.FORBIDDEN);
+            exchange.getResponseHeaders().set("Retry-After", Long.toString(ex.getRetryAfterSeconds()));
+            ResponseUtility.sendErrorResponse(ex, exchange, HttpStatus.TOO_MANY_REQUESTS);
         } catch (ApplicationException ex) {
+            failure = ex;
 
             // Known application-level error → return 400
             ResponseUtility.sendErrorResponse(ex, exchange, HttpStatus.BAD_REQUEST);
 
         } catch (ForbiddenException ex) {
+            failure = ex;
 
             // Known application-level error → return 400
             ResponseUtility.sendErrorResponse(ex, exchange, HttpStatus.FORBIDDEN);
 
         } catch (ExpiredJwtException ex) {
+            failure = ex;
 
             ResponseUtility.sendErrorResponse(ex, exchange, HttpStatus.UNAUTHORIZED);
         } catch (UnauthorizedException | AuthenticationException ex) {
+            failure = ex;
 
             // Known application-level error → return 400
             ResponseUtility.sendErrorResponse(ex, exchange, HttpStatus.UNAUTHORIZED);
@@ -179,6 +293,7 @@ public class RouteScanner {
 
             boolean handled = false;
             Throwable targetException = e.getTargetException();
+            failure = targetException;
             for (Interceptor interceptor : interceptors) {
                 if (interceptor.onException(exchange, route, targetException)) {
                     handled = true;
@@ -198,11 +313,28 @@ public class RouteScanner {
                 }
             }
         } catch (Exception e) {
+            failure = e;
             ResponseUtility.sendErrorResponse(
                     new ApplicationException("Internal Server Error"),
                     exchange,
                     HttpStatus.INTERNAL_SERVER_ERROR
             );
+        } finally {
+            // Return pooled form buffers and delete spilled upload files
+            FormData.release();
+
+            AccessLog.record(exchange, startNanos);
+            MetricsRegistry.requestCompleted(exchange, route, startNanos, failure);
+            ServerTiming.end();
+
+            if (requestEvent.shouldCommit()) {
+                requestEvent.method = exchange.getRequestMethod();
+                requestEvent.path = exchange.getRequestURI().getPath();
+                requestEvent.route = route != null ? route.path() : null;
+                requestEvent.status = exchange.getResponseCode();
+                requestEvent.commit();
+            }
+            SecurityContext.clear();
         }
     }
 }
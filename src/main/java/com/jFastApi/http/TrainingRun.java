@@ -0,0 +1,149 @@
+package com.jFastApi.http;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jFastApi.AppContext;
+import com.jFastApi.BeanFactory;
+import com.jFastApi.annotation.RequestBody;
+import com.jFastApi.enumeration.HttpMethod;
+import com.jFastApi.json.JsonCodecRegistry;
+import com.jFastApi.util.JsonUtility;
+import com.jFastApi.util.PropertiesUtil;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Training run for an application class-data sharing (AppCDS) archive.
+ * <p>
+ * With {@code app.cds.training=true} the application starts as usual, then loads everything
+ * it would otherwise load lazily on the first requests: every bean, the controller of every
+ * route, the entities (by waiting for the SessionFactory) and the Jackson serializers and
+ * deserializers of request and response bodies. With {@code app.cds.training.warmup} (the
+ * default) it also sends one request to each parameterless GET route over loopback, so the
+ * HTTP server and dispatcher classes are loaded too. The JVM then exits, and writes the
+ * archive if started with {@code -XX:ArchiveClassesAtExit}; {@code bin/jfastapi.sh --train}
+ * does both.
+ */
+public final class TrainingRun {
+
+    private TrainingRun() {
+    }
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TrainingRun.class);
+
+    public static boolean isEnabled() {
+        return PropertiesUtil.getPropertyBoolean(PropertiesUtil.CDS_TRAINING, false);
+    }
+
+    /**
+     * Loads the application's classes through the started server.
+     */
+    public static void run(HttpServer server) {
+        long start = System.nanoTime();
+        warnIfNotArchiving();
+
+        int beans = 0;
+        for (Class<?> beanClass : BeanFactory.getBeanClasses()) {
+            try {
+                BeanFactory.getBeanInstance(beanClass);
+                beans++;
+            } catch (RuntimeException ex) {
+                LOGGER.warn("Training run could not create bean {}, error {}", beanClass.getName(), ex.getMessage());
+            }
+        }
+
+        try {
+            AppContext.getDefaultSessionFactory();
+        } catch (RuntimeException ex) {
+            LOGGER.warn("Training run continues without the database, error {}", ex.getMessage());
+        }
+
+        List<Route> routes = RouteRegistry.getRoutes();
+        for (Route route : routes) {
+            loadBodyTypes(route);
+        }
+
+        int requests = 0;
+        if (PropertiesUtil.getPropertyBoolean(PropertiesUtil.CDS_TRAINING_WARMUP, true)) {
+            requests = warmup(server, routes);
+        }
+
+        LOGGER.info("Training run loaded {} beans and {} routes, sent {} warmup requests in {} ms",
+                beans, routes.size(), requests, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // Building readers and writers creates and caches the root (de)serializers
+    private static void loadBodyTypes(Route route) {
+        ObjectMapper mapper = JsonUtility.getMapper();
+
+        for (Parameter parameter : route.handlerMethod().getParameters()) {
+            if (parameter.isAnnotationPresent(RequestBody.class)) {
+                JsonCodecRegistry.find(parameter.getType());
+                mapper.readerFor(mapper.constructType(parameter.getParameterizedType()));
+            }
+        }
+
+        Type returnType = route.handlerMethod().getGenericReturnType();
+        if (returnType instanceof ParameterizedType parameterized && parameterized.getRawType() == Response.class) {
+            JavaType body = mapper.constructType(parameterized.getActualTypeArguments()[0]);
+            JsonCodecRegistry.find(body.getRawClass());
+            mapper.writerFor(body);
+        }
+    }
+
+    private static int warmup(HttpServer server, List<Route> routes) {
+        URI base = URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+        int sent = 0;
+
+        try (HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build()) {
+
+            for (Route route : routes) {
+                if (route.method() == HttpMethod.GET && !route.authorized()) {
+                    send(client, base.resolve(route.path()));
+                    sent++;
+                }
+            }
+
+            // Not-found handling
+            send(client, base.resolve("/__jfastapi_training__"));
+            sent++;
+        }
+        return sent;
+    }
+
+    private static void send(HttpClient client, URI uri) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(10)).GET().build();
+            // Any status will do: missing parameters still run interceptors, binding and error responses
+            client.send(request, HttpResponse.BodyHandlers.discarding());
+        } catch (IOException ex) {
+            LOGGER.warn("Training request to {} failed, error {}", uri, ex.getMessage());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void warnIfNotArchiving() {
+        boolean archiving = ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+                .anyMatch(arg -> arg.startsWith("-XX:ArchiveClassesAtExit") || arg.equals("-XX:+AutoCreateSharedArchive"));
+        if (!archiving) {
+            LOGGER.warn("Training run without -XX:ArchiveClassesAtExit: no CDS archive will be written");
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.jFastApi.http.form;
+
+import com.jFastApi.util.PropertiesUtil;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded pool of fixed-size byte chunks used to hold small form parts in memory.
+ * Chunks beyond the pool limit are simply left to the garbage collector.
+ */
+final class ChunkPool {
+
+    private ChunkPool() {
+    }
+
+    static final int CHUNK_SIZE = 8192;
+
+    private static final int MAX_POOLED = PropertiesUtil.getPropertyInteger(PropertiesUtil.FORM_POOL_MAX_CHUNKS, 1024);
+
+    private static final ConcurrentLinkedQueue<byte[]> pool = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger pooled = new AtomicInteger();
+
+    static byte[] acquire() {
+        byte[] chunk = pool.poll();
+        if (chunk == null) {
+            return new byte[CHUNK_SIZE];
+        }
+        pooled.decrementAndGet();
+        return chunk;
+    }
+
+    static void release(byte[] chunk) {
+        if (pooled.incrementAndGet() <= MAX_POOLED) {
+            pool.offer(chunk);
+        } else {
+            pooled.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.jFastApi.http.form;
+
+import com.jFastApi.enumeration.ContentType;
+import com.jFastApi.exception.ApplicationException;
+import com.jFastApi.exception.PayloadTooLargeException;
+import com.jFastApi.exception.UnsupportedMediaTypeException;
+import com.jFastApi.http.Route;
+import com.jFastApi.util.PropertiesUtil;
+import com.jFastApi.util.RequestUtility;
+import com.jFastApi.util.StringUtility;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Parsed form body of the current request (urlencoded or multipart).
+ * <p>
+ * Parsed lazily, at most once per request, when a handler declares {@code @FormField}
+ * or {@code @FilePart} parameters. Like {@code SecurityContext}, it is bound to the request
+ * thread and released by the dispatcher once the response has been sent.
+ */
+public final class FormData {
+
+    public static final long DEFAULT_MAX_REQUEST_SIZE =
+            PropertiesUtil.getPropertyLong(PropertiesUtil.FORM_MAX_REQUEST_SIZE, 10L * 1024 * 1024);
+
+    public static final long DEFAULT_MAX_FILE_SIZE =
+            PropertiesUtil.getPropertyLong(PropertiesUtil.FORM_MAX_FILE_SIZE, 10L * 1024 * 1024);
+
+    private static final long MEMORY_THRESHOLD =
+            PropertiesUtil.getPropertyLong(PropertiesUtil.FORM_MEMORY_THRESHOLD, 64L * 1024);
+
+    private static final Path TEMP_DIR = Path.of(StringUtility.isEmpty(PropertiesUtil.getProperty(PropertiesUtil.FORM_TEMP_DIR))
+            ? System.getProperty("java.io.tmpdir")
+            : PropertiesUtil.getProperty(PropertiesUtil.FORM_TEMP_DIR));
+
+    private static final ThreadLocal<FormData> current = new ThreadLocal<>();
+
+    private final Map<String, String> fields = new HashMap<>();
+    private final Map<String, UploadedFile> files = new HashMap<>();
+
+    private FormData() {
+    }
+
+    /**
+     * Returns the form data of the current request, parsing the body on first access.
+     *
+     * @param exchange the current exchange
+     * @param route    the matched route, supplying the size limits
+     * @throws PayloadTooLargeException     if the body or a file exceeds the route's limits
+     * @throws UnsupportedMediaTypeException if the body is not a form
+     */
+    public static FormData get(HttpExchange exchange, Route route) throws IOException {
+        FormData form = current.get();
+        if (form != null) {
+            return form;
+        }
+
+        form = new FormData();
+        current.set(form);
+        form.parse(exchange, route);
+        return form;
+    }
+
+    /**
+     * Releases the current request's form data: returns pooled buffers and deletes
+     * temporary upload files that were not transferred.
+     */
+    public static void release() {
+        FormData form = current.get();
+        if (form == null) {
+            return;
+        }
+        current.remove();
+        form.files.values().forEach(UploadedFile::release);
+        form.files.clear();
+    }
+
+    /**
+     * @return the value of a plain form field, or null if absent
+     */
+    public String getField(String name) {
+        return fields.get(name);
+    }
+
+    /**
+     * @return the uploaded file part with the given name, or null if absent
+     */
+    public UploadedFile getFile(String name) {
+        return files.get(name);
+    }
+
+    private void parse(HttpExchange exchange, Route route) throws IOException {
+        String contentType = RequestUtility.getHeader(exchange, "Content-Type");
+        if (contentType == null) {
+            throw new UnsupportedMediaTypeException("Missing Content-Type for form body");
+        }
+
+        // Reject early when the declared length is already too large
+        String contentLength = RequestUtility.getHeader(exchange, "Content-Length");
+        if (contentLength != null) {
+            try {
+                if (Long.parseLong(contentLength.trim()) > route.maxRequestSize()) {
+                    throw new PayloadTooLargeException("Request body exceeds the limit of " + route.maxRequestSize() + " bytes");
+                }
+            } catch (NumberFormatException ignored) {
+            }
+        }
+
+        InputStream body = new LimitedInputStream(exchange.getRequestBody(), route.maxRequestSize());
+        String mimeType = contentType.split(";", 2)[0].trim();
+
+        if (mimeType.equalsIgnoreCase(ContentType.FORM.getMimeType())) {
+            UrlEncodedParser.parse(body, fields);
+        } else if (mimeType.equalsIgnoreCase(ContentType.MULTIPART.getMimeType())) {
+            String boundary = headerParameter(contentType, "boundary");
+            if (StringUtility.isEmpty(boundary)) {
+                throw new ApplicationException("Missing multipart boundary");
+            }
+            new MultipartParser(body, boundary, route.maxFileSize(), MEMORY_THRESHOLD, TEMP_DIR).parse(fields, files);
+        } else {
+            throw new UnsupportedMediaTypeException("Expected a form body but got Content-Type: " + contentType);
+        }
+    }
+
+    /**
+     * Extracts a parameter such as {@code name="x"} from a header value, unquoting it.
+     */
+    static String headerParameter(String header, String parameter) {
+        for (String segment : header.split(";")) {
+            String trimmed = segment.trim();
+            int equals = trimmed.indexOf('=');
+            if (equals <= 0 || !trimmed.substring(0, equals).trim().equalsIgnoreCase(parameter)) {
+                continue;
+            }
+            String value = trimmed.substring(equals + 1).trim();
+            if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+                value = value.substring(1, value.length() - 1);
+            }
+            return value;
+        }
+        return null;
+    }
+
+    /**
+     * Fails with {@link PayloadTooLargeException} once more than {@code limit} bytes are read.
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+
+        private final long limit;
+        private long count;
+
+        private LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) count(1);
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) count(read);
+            return read;
+        }
+
+        private void count(int read) {
+            count += read;
+            if (count > limit) {
+                throw new PayloadTooLargeException("Request body exceeds the limit of " + limit + " bytes");
+            }
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.jFastApi.http.form;
+
+import com.jFastApi.exception.ApplicationException;
+import com.jFastApi.exception.PayloadTooLargeException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Streaming multipart/form-data parser.
+ * <p>
+ * Reads the body through a fixed-size buffer, scanning for the boundary delimiter and
+ * handing part content to {@link UploadedFile}, which keeps small parts in pooled memory
+ * and spills large ones to disk. The whole body is never materialized on the heap.
+ */
+final class MultipartParser {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+    private static final int MAX_HEADER_SIZE = 8 * 1024;
+
+    private final InputStream input;
+    private final byte[] delimiter;   // "\r\n--" + boundary
+    private final byte[] buffer;
+    private int head;
+    private int tail;
+    private boolean eof;
+
+    private final long maxFileSize;
+    private final long memoryThreshold;
+    private final Path tempDir;
+
+    MultipartParser(InputStream input, String boundary, long maxFileSize, long memoryThreshold, Path tempDir) {
+        this.input = input;
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+        this.buffer = new byte[Math.max(BUFFER_SIZE, delimiter.length * 2)];
+        this.maxFileSize = maxFileSize;
+        this.memoryThreshold = memoryThreshold;
+        this.tempDir = tempDir;
+    }
+
+    /**
+     * Parses all parts; plain fields go to {@code fields}, file parts to {@code files}.
+     */
+    void parse(Map<String, String> fields, Map<String, UploadedFile> files) throws IOException {
+
+        skipPreamble();
+
+        while (true) {
+            PartHeaders headers = readHeaders();
+
+            boolean isFile = headers.fileName != null;
+            // Plain fields must fit in memory; file parts are bounded by the per-route file limit
+            long limit = isFile ? maxFileSize : memoryThreshold;
+            UploadedFile part = new UploadedFile(headers.name, headers.fileName, headers.contentType,
+                    limit, isFile ? memoryThreshold : Long.MAX_VALUE, tempDir);
+
+            boolean last;
+            try {
+                last = readBody(part);
+                part.finish();
+            } catch (IOException | RuntimeException ex) {
+                part.release();
+                throw ex;
+            }
+
+            if (headers.name == null) {
+                part.release();
+            } else if (isFile) {
+                UploadedFile previous = files.put(headers.name, part);
+                if (previous != null) previous.release();
+            } else {
+                fields.put(headers.name, part.getString(StandardCharsets.UTF_8));
+                part.release();
+            }
+
+            if (last) {
+                return;
+            }
+        }
+    }
+
+    // Discards everything up to and including the first boundary line
+    private void skipPreamble() throws IOException {
+        // The first boundary is not preceded by CRLF, so match "--boundary" only
+        while (true) {
+            int index = indexOf(delimiter, 2, head, tail);
+            if (index >= 0) {
+                head = index + delimiter.length - 2;
+                expectLineEnd();
+                return;
+            }
+            // keep a possible partial match in the buffer
+            head = Math.max(head, tail - delimiter.length);
+            if (!fill()) {
+                throw new ApplicationException("Malformed multipart body: boundary not found");
+            }
+        }
+    }
+
+    private void expectLineEnd() throws IOException {
+        ensure(2);
+        if (buffer[head] != '\r' || buffer[head + 1] != '\n') {
+            throw new ApplicationException("Malformed multipart body: expected CRLF after boundary");
+        }
+        head += 2;
+    }
+
+    private PartHeaders readHeaders() throws IOException {
+        PartHeaders headers = new PartHeaders();
+        int consumed = 0;
+
+        while (true) {
+            int lineEnd = indexOfCrlf();
+            while (lineEnd < 0) {
+                if (tail - head > MAX_HEADER_SIZE || !fill()) {
+                    throw new ApplicationException("Malformed multipart body: part headers too large or truncated");
+                }
+                lineEnd = indexOfCrlf();
+            }
+
+            String line = new String(buffer, head, lineEnd - head, StandardCharsets.UTF_8);
+            consumed += lineEnd - head + 2;
+            head = lineEnd + 2;
+
+            if (consumed > MAX_HEADER_SIZE) {
+                throw new ApplicationException("Malformed multipart body: part headers too large");
+            }
+            if (line.isEmpty()) {
+                return headers;
+            }
+
+            int colon = line.indexOf(':');
+            if (colon <= 0) continue;
+            String name = line.substring(0, colon).trim();
+            String value = line.substring(colon + 1).trim();
+
+            if (name.equalsIgnoreCase("Content-Disposition")) {
+                headers.name = FormData.headerParameter(value, "name");
+                headers.fileName = FormData.headerParameter(value, "filename");
+            } else if (name.equalsIgnoreCase("Content-Type")) {
+                headers.contentType = value;
+            }
+        }
+    }
+
+    /**
+     * Streams the part body into {@code part} until the next delimiter.
+     *
+     * @return true if the delimiter was the closing one
+     */
+    private boolean readBody(UploadedFile part) throws IOException {
+        while (true) {
+            int index = indexOf(delimiter, 0, head, tail);
+            if (index >= 0) {
+                part.append(buffer, head, index - head);
+                head = index + delimiter.length;
+
+                ensure(2);
+                if (buffer[head] == '-' && buffer[head + 1] == '-') {
+                    head += 2;
+                    return true;
+                }
+                expectLineEnd();
+                return false;
+            }
+
+            // Everything except a possible partial delimiter at the end is part content
+            int safe = tail - (delimiter.length - 1);
+            if (safe > head) {
+                part.append(buffer, head, safe - head);
+                head = safe;
+            }
+            if (!fill()) {
+                throw new ApplicationException("Malformed multipart body: closing boundary not found");
+            }
+        }
+    }
+
+    private void ensure(int bytes) throws IOException {
+        while (tail - head < bytes) {
+            if (!fill()) {
+                throw new ApplicationException("Malformed multipart body: unexpected end of stream");
+            }
+        }
+    }
+
+    // Compacts the buffer and reads more input; returns false at end of stream
+    private boolean fill() throws IOException {
+        if (eof) return false;
+
+        if (head > 0) {
+            System.arraycopy(buffer, head, buffer, 0, tail - head);
+            tail -= head;
+            head = 0;
+        }
+        if (tail == buffer.length) {
+            throw new PayloadTooLargeException("Multipart buffer overflow");
+        }
+
+        int read = input.read(buffer, tail, buffer.length - tail);
+        if (read < 0) {
+            eof = true;
+            return false;
+        }
+        tail += read;
+        return true;
+    }
+
+    private int indexOfCrlf() {
+        for (int i = head; i < tail - 1; i++) {
+            if (buffer[i] == '\r' && buffer[i + 1] == '\n') return i;
+        }
+        return -1;
+    }
+
+    // Returns the position of pattern[patternStart..] within buffer[from, to), or -1
+    private int indexOf(byte[] pattern, int patternStart, int from, int to) {
+        int length = pattern.length - patternStart;
+        byte first = pattern[patternStart];
+        outer:
+        for (int i = from; i <= to - length; i++) {
+            if (buffer[i] != first) continue;
+            for (int j = 1; j < length; j++) {
+                if (buffer[i + j] != pattern[patternStart + j]) continue outer;
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static final class PartHeaders {
+        private String name;
+        private String fileName;
+        private String contentType;
+    }
+}
@@ -0,0 +1,262 @@
+package com.jFastApi.http.form;
+
+import com.jFastApi.exception.PayloadTooLargeException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A part of a multipart/form-data request.
+ * <p>
+ * Small parts are kept in pooled memory chunks; once a part grows beyond the memory
+ * threshold it is spilled to a temporary file through a {@link FileChannel}.
+ * <p>
+ * The content is only valid for the duration of the request: pooled chunks are returned
+ * and temporary files deleted once the response is sent. Use {@link #transferTo(Path)}
+ * to keep an upload.
+ */
+public final class UploadedFile {
+
+    private final String name;
+    private final String fileName;
+    private final String contentType;
+    private final long maxSize;
+    private final long memoryThreshold;
+    private final Path tempDir;
+
+    private final List<byte[]> chunks = new ArrayList<>();
+    private long size;
+    private Path file;
+    private FileChannel channel;
+    private boolean transferred;
+
+    UploadedFile(String name, String fileName, String contentType, long maxSize, long memoryThreshold, Path tempDir) {
+        this.name = name;
+        this.fileName = fileName;
+        this.contentType = contentType;
+        this.maxSize = maxSize;
+        this.memoryThreshold = memoryThreshold;
+        this.tempDir = tempDir;
+    }
+
+    /**
+     * @return the form field name of this part
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the client supplied file name, or null for plain form fields
+     */
+    public String getFileName() {
+        return fileName;
+    }
+
+    /**
+     * @return the part's Content-Type, or null if the client sent none
+     */
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * @return the size of the content in bytes
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * @return true if the content is held in memory, false if it was spilled to disk
+     */
+    public boolean isInMemory() {
+        return file == null;
+    }
+
+    /**
+     * Opens a stream over the content.
+     */
+    public InputStream getInputStream() throws IOException {
+        if (file != null) {
+            return Files.newInputStream(file);
+        }
+        return new ChunkInputStream(chunks, size);
+    }
+
+    /**
+     * Reads the whole content into memory. Prefer {@link #getInputStream()} for large files.
+     */
+    public byte[] getBytes() throws IOException {
+        try (InputStream in = getInputStream()) {
+            return in.readAllBytes();
+        }
+    }
+
+    /**
+     * Decodes the whole content as text.
+     */
+    public String getString(Charset charset) throws IOException {
+        return new String(getBytes(), charset);
+    }
+
+    /**
+     * Moves (spilled) or writes (in-memory) the content to the target path, replacing it if present.
+     */
+    public void transferTo(Path target) throws IOException {
+        if (file != null) {
+            finish();
+            Files.move(file, target, StandardCopyOption.REPLACE_EXISTING);
+            file = target;
+            transferred = true;
+            return;
+        }
+
+        try (FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long remaining = size;
+            for (byte[] chunk : chunks) {
+                int length = (int) Math.min(chunk.length, remaining);
+                ByteBuffer buffer = ByteBuffer.wrap(chunk, 0, length);
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+                remaining -= length;
+            }
+        }
+    }
+
+    /**
+     * Appends bytes to the part, spilling to disk when the memory threshold is crossed.
+     */
+    void append(byte[] source, int offset, int length) throws IOException {
+        if (size + length > maxSize) {
+            throw new PayloadTooLargeException("Part '" + name + "' exceeds the limit of " + maxSize + " bytes");
+        }
+
+        if (channel == null && size + length > memoryThreshold) {
+            spill();
+        }
+
+        if (channel != null) {
+            ByteBuffer buffer = ByteBuffer.wrap(source, offset, length);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            size += length;
+            return;
+        }
+
+        while (length > 0) {
+            int used = (int) (size % ChunkPool.CHUNK_SIZE);
+            if (used == 0) {
+                chunks.add(ChunkPool.acquire());
+            }
+            byte[] chunk = chunks.getLast();
+            int copy = Math.min(length, ChunkPool.CHUNK_SIZE - used);
+            System.arraycopy(source, offset, chunk, used, copy);
+            offset += copy;
+            length -= copy;
+            size += copy;
+        }
+    }
+
+    /**
+     * Completes writing; closes the temp file channel if the part was spilled.
+     */
+    void finish() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    /**
+     * Returns pooled chunks and deletes the temporary file, if any remains.
+     */
+    void release() {
+        for (byte[] chunk : chunks) {
+            ChunkPool.release(chunk);
+        }
+        chunks.clear();
+
+        try {
+            finish();
+        } catch (IOException ignored) {
+        }
+
+        if (file != null && !transferred) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private void spill() throws IOException {
+        file = Files.createTempFile(tempDir, "jfastapi-upload-", ".part");
+        channel = FileChannel.open(file, StandardOpenOption.WRITE);
+
+        long remaining = size;
+        for (byte[] chunk : chunks) {
+            int length = (int) Math.min(chunk.length, remaining);
+            ByteBuffer buffer = ByteBuffer.wrap(chunk, 0, length);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            remaining -= length;
+            ChunkPool.release(chunk);
+        }
+        chunks.clear();
+    }
+
+    /**
+     * Sequential stream over in-memory chunks.
+     */
+    private static final class ChunkInputStream extends InputStream {
+
+        private final List<byte[]> chunks;
+        private final long size;
+        private long position;
+
+        private ChunkInputStream(List<byte[]> chunks, long size) {
+            this.chunks = chunks;
+            this.size = size;
+        }
+
+        @Override
+        public int read() {
+            if (position >= size) return -1;
+            byte b = chunks.get((int) (position / ChunkPool.CHUNK_SIZE))[(int) (position % ChunkPool.CHUNK_SIZE)];
+            position++;
+            return b & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int length) {
+            if (position >= size) return -1;
+            if (length == 0) return 0;
+
+            int chunkOffset = (int) (position % ChunkPool.CHUNK_SIZE);
+            byte[] chunk = chunks.get((int) (position / ChunkPool.CHUNK_SIZE));
+            int copy = (int) Math.min(Math.min(length, ChunkPool.CHUNK_SIZE - chunkOffset), size - position);
+            System.arraycopy(chunk, chunkOffset, target, offset, copy);
+            position += copy;
+            return copy;
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(Integer.MAX_VALUE, size - position);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.jFastApi.http.form;
+
+import com.jFastApi.exception.ApplicationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Streaming application/x-www-form-urlencoded parser.
+ * Decodes one {@code key=value} pair at a time instead of reading the whole body into a String.
+ */
+final class UrlEncodedParser {
+
+    private UrlEncodedParser() {
+    }
+
+    static void parse(InputStream input, Map<String, String> fields) throws IOException {
+        byte[] buffer = ChunkPool.acquire();
+        ByteArrayOutputStream pair = new ByteArrayOutputStream(128);
+
+        try {
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                int start = 0;
+                for (int i = 0; i < read; i++) {
+                    if (buffer[i] == '&') {
+                        pair.write(buffer, start, i - start);
+                        addPair(pair, fields);
+                        start = i + 1;
+                    }
+                }
+                pair.write(buffer, start, read - start);
+            }
+            addPair(pair, fields);
+        } finally {
+            ChunkPool.release(buffer);
+        }
+    }
+
+    private static void addPair(ByteArrayOutputStream pair, Map<String, String> fields) {
+        if (pair.size() == 0) {
+            return;
+        }
+
+        String raw = pair.toString(StandardCharsets.UTF_8);
+        pair.reset();
+
+        int equals = raw.indexOf('=');
+        String key = equals < 0 ? raw : raw.substring(0, equals);
+        String value = equals < 0 ? "" : raw.substring(equals + 1);
+        try {
+            fields.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException ex) {
+            // A '%' not followed by two hex digits
+            throw new ApplicationException("Malformed form body: invalid percent-encoding");
+        }
+    }
+}
@@ -4,7 +4,7 @@ import com.jFastApi.BeanFactory;
 import com.jFastApi.annotation.InterceptorBean;
 import com.jFastApi.annotation.SystemInterceptorBean;
 import com.jFastApi.exception.ApplicationException;
-import com.jFastApi.util.ReflectionUtility;
+import com.jFastApi.scan.ComponentIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -29,8 +29,8 @@ public class InterceptorScanner {
     public static void scanAndRegister(String basePackage, String internalBasePackage) {
 
         // Find all classes annotated with @InterceptorBean in the given package
-        List<Class<?>> classes = ReflectionUtility.findAnnotatedClasses(basePackage, InterceptorBean.class);
-        List<Class<?>> internalClasses = ReflectionUtility.findAnnotatedClasses(internalBasePackage, SystemInterceptorBean.class);
+        List<Class<?>> classes = ComponentIndex.findAnnotatedClasses(basePackage, InterceptorBean.class);
+        List<Class<?>> internalClasses = ComponentIndex.findAnnotatedClasses(internalBasePackage, SystemInterceptorBean.class);
 
         registerInterceptor(classes);
         registerInternalInterceptor(internalClasses);
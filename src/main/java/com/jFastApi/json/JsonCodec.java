@@ -0,0 +1,40 @@
+package com.jFastApi.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+
+/**
+ * Reflection-free JSON encoder/decoder for a single type.
+ * <p>
+ * Implementations are generated at compile time by {@code JsonCodecProcessor} for every
+ * {@code @RequestBody} parameter and {@code Response<T>} body type, and are discovered
+ * through {@link java.util.ServiceLoader} by {@link JsonCodecRegistry}.
+ *
+ * @param <T> the type handled by this codec
+ */
+public interface JsonCodec<T> {
+
+    /**
+     * @return the exact class this codec reads and writes
+     */
+    Class<T> type();
+
+    /**
+     * Writes the given value as a JSON object.
+     *
+     * @param generator the generator to write to
+     * @param value     the value to write, never null
+     */
+    void write(JsonGenerator generator, T value) throws IOException;
+
+    /**
+     * Reads a value from the parser.
+     * The parser may be positioned before the first token or on the START_OBJECT token.
+     *
+     * @param parser the parser to read from
+     * @return the decoded value, or null for a JSON null
+     */
+    T read(JsonParser parser) throws IOException;
+}
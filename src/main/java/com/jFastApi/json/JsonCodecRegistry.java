@@ -0,0 +1,54 @@
+package com.jFastApi.json;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Holds the compile-time generated {@link JsonCodec}s found on the classpath.
+ * <p>
+ * Codecs are loaded once through {@link ServiceLoader} and kept in an immutable map,
+ * so lookups are lock-free. Types without a generated codec fall back to Jackson databind.
+ */
+public final class JsonCodecRegistry {
+
+    private JsonCodecRegistry() {
+    }
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JsonCodecRegistry.class);
+
+    private static final Map<Class<?>, JsonCodec<?>> codecs = loadCodecs();
+
+    @SuppressWarnings("rawtypes")
+    private static Map<Class<?>, JsonCodec<?>> loadCodecs() {
+        Map<Class<?>, JsonCodec<?>> loaded = new HashMap<>();
+
+        try {
+            for (JsonCodec codec : ServiceLoader.load(JsonCodec.class)) {
+                loaded.put(codec.type(), codec);
+            }
+        } catch (ServiceConfigurationError ex) {
+            LOGGER.error("Failed to load generated JSON codecs, falling back to Jackson. error {}", ex.getMessage());
+        }
+
+        if (!loaded.isEmpty()) {
+            LOGGER.info("Loaded {} generated JSON codec(s)", loaded.size());
+        }
+        return Map.copyOf(loaded);
+    }
+
+    /**
+     * Finds the generated codec for exactly the given class.
+     *
+     * @param type the class to look up
+     * @return the codec, or null if none was generated for this type
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> JsonCodec<T> find(Class<T> type) {
+        return (JsonCodec<T>) codecs.get(type);
+    }
+}
@@ -0,0 +1,206 @@
+package com.jFastApi.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+
+import java.io.IOException;
+
+/**
+ * Small runtime helpers used by generated {@link JsonCodec} implementations.
+ * Keeps generated sources short and mirrors Jackson's default coercion rules.
+ */
+public final class JsonCodecSupport {
+
+    private JsonCodecSupport() {
+    }
+
+    /**
+     * Moves the parser onto the START_OBJECT token of the value.
+     *
+     * @return false if the value is a JSON null
+     */
+    public static boolean beginObject(JsonParser parser, Class<?> type) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == null) {
+            token = parser.nextToken();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw JsonMappingException.from(parser,
+                    "Expected JSON object for " + type.getName() + " but found " + token);
+        }
+        return true;
+    }
+
+    /**
+     * Fails the same way Jackson does for properties the target type does not declare.
+     */
+    public static JsonMappingException unknownProperty(JsonParser parser, Class<?> type, String name) {
+        return UnrecognizedPropertyException.from(parser, type, name, null);
+    }
+
+    public static String readString(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token.isStructStart()) {
+            throw JsonMappingException.from(parser, "Expected a string value but found " + token);
+        }
+        return parser.getValueAsString();
+    }
+
+    public static int readInt(JsonParser parser) throws IOException {
+        Integer value = readIntBoxed(parser);
+        return value == null ? 0 : value;
+    }
+
+    public static Integer readIntBoxed(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            // Fails on overflow, like Jackson
+            return parser.getIntValue();
+        }
+        if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getValueAsInt();
+        }
+        String text = scalarText(parser, int.class);
+        if (text == null) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(text);
+        } catch (NumberFormatException ex) {
+            throw InvalidFormatException.from(parser, "Cannot deserialize value of type `int` from String \""
+                    + text + "\": not a valid `int` value", text, int.class);
+        }
+    }
+
+    public static long readLong(JsonParser parser) throws IOException {
+        Long value = readLongBoxed(parser);
+        return value == null ? 0L : value;
+    }
+
+    public static Long readLongBoxed(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getLongValue();
+        }
+        if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getValueAsLong();
+        }
+        String text = scalarText(parser, long.class);
+        if (text == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(text);
+        } catch (NumberFormatException ex) {
+            throw InvalidFormatException.from(parser, "Cannot deserialize value of type `long` from String \""
+                    + text + "\": not a valid `long` value", text, long.class);
+        }
+    }
+
+    public static double readDouble(JsonParser parser) throws IOException {
+        Double value = readDoubleBoxed(parser);
+        return value == null ? 0.0 : value;
+    }
+
+    public static Double readDoubleBoxed(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getDoubleValue();
+        }
+        String text = scalarText(parser, double.class);
+        if (text == null) {
+            return null;
+        }
+        try {
+            return Double.parseDouble(text);
+        } catch (NumberFormatException ex) {
+            throw InvalidFormatException.from(parser, "Cannot deserialize value of type `double` from String \""
+                    + text + "\": not a valid `double` value", text, double.class);
+        }
+    }
+
+    public static boolean readBoolean(JsonParser parser) throws IOException {
+        Boolean value = readBooleanBoxed(parser);
+        return value != null && value;
+    }
+
+    public static Boolean readBooleanBoxed(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE) {
+            return token == JsonToken.VALUE_TRUE;
+        }
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getIntValue() != 0;
+        }
+        String text = scalarText(parser, boolean.class);
+        if (text == null) {
+            return null;
+        }
+        if ("true".equalsIgnoreCase(text)) {
+            return Boolean.TRUE;
+        }
+        if ("false".equalsIgnoreCase(text)) {
+            return Boolean.FALSE;
+        }
+        throw InvalidFormatException.from(parser, "Cannot deserialize value of type `boolean` from String \""
+                + text + "\": only \"true\" or \"false\" recognized", text, boolean.class);
+    }
+
+    /**
+     * Returns the trimmed text of a string value, or null for a JSON null or an empty string
+     * (Jackson's coercion of empty strings to the default value).
+     *
+     * @throws MismatchedInputException for any other token (object, array, boolean for a number, ...)
+     */
+    private static String scalarText(JsonParser parser, Class<?> type) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.VALUE_STRING) {
+            throw MismatchedInputException.from(parser, type,
+                    "Cannot deserialize value of type `" + type.getName() + "` from " + token);
+        }
+        String text = parser.getText().trim();
+        return text.isEmpty() ? null : text;
+    }
+
+    public static void writeString(JsonGenerator generator, String value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(value);
+        }
+    }
+
+    public static void writeNumber(JsonGenerator generator, Number value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else if (value instanceof Integer i) {
+            generator.writeNumber(i);
+        } else if (value instanceof Long l) {
+            generator.writeNumber(l);
+        } else {
+            generator.writeNumber(value.doubleValue());
+        }
+    }
+
+    public static void writeBoolean(JsonGenerator generator, Boolean value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeBoolean(value);
+        }
+    }
+}
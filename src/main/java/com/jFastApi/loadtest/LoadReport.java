@@ -0,0 +1,124 @@
+package com.jFastApi.loadtest;
+
+import com.jFastApi.metrics.LatencyHistogram;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Result of a {@link LoadTest} run.
+ * <p>
+ * Two latency distributions are reported. {@code corrected} accounts for coordinated
+ * omission: in open-loop mode latency is measured from the time a request was scheduled
+ * to be sent, in closed-loop mode the samples a stalled worker failed to send are added
+ * back. {@code uncorrected} is the time from send to response only, and shows how far
+ * a naive benchmark would understate the tail.
+ */
+public final class LoadReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9, 99.99};
+
+    private final LoadTest.Mode mode;
+    private final double targetRate;
+    private final int concurrency;
+    private final Duration elapsed;
+    private final long sent;
+    private final long completed;
+    private final LatencyHistogram corrected;
+    private final LatencyHistogram uncorrected;
+    private final Map<String, Long> errors;
+
+    LoadReport(LoadTest.Mode mode, double targetRate, int concurrency, Duration elapsed, long sent, long completed,
+               LatencyHistogram corrected, LatencyHistogram uncorrected, Map<String, Long> errors) {
+        this.mode = mode;
+        this.targetRate = targetRate;
+        this.concurrency = concurrency;
+        this.elapsed = elapsed;
+        this.sent = sent;
+        this.completed = completed;
+        this.corrected = corrected;
+        this.uncorrected = uncorrected;
+        this.errors = new TreeMap<>(errors);
+    }
+
+    public LoadTest.Mode getMode() {
+        return mode;
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    public long getSent() {
+        return sent;
+    }
+
+    /**
+     * @return requests that received a response (of any status)
+     */
+    public long getCompleted() {
+        return completed;
+    }
+
+    /**
+     * @return completed requests per second
+     */
+    public double getThroughput() {
+        return elapsed.isZero() ? 0 : completed / (elapsed.toNanos() / 1e9);
+    }
+
+    /**
+     * @return error counts keyed by "HTTP status" or exception type
+     */
+    public Map<String, Long> getErrors() {
+        return errors;
+    }
+
+    public long getErrorCount() {
+        return errors.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public LatencyHistogram getCorrectedLatency() {
+        return corrected;
+    }
+
+    public LatencyHistogram getUncorrectedLatency() {
+        return uncorrected;
+    }
+
+    /**
+     * Prints a human-readable summary.
+     */
+    public void print(PrintStream out) {
+        if (mode == LoadTest.Mode.OPEN) {
+            out.printf("Mode: open loop, target %.0f req/s, %.1f s%n", targetRate, elapsed.toNanos() / 1e9);
+        } else {
+            out.printf("Mode: closed loop, %d connections, %.1f s%n", concurrency, elapsed.toNanos() / 1e9);
+        }
+        out.printf("Requests: %d sent, %d completed, %.1f req/s, %d errors%n",
+                sent, completed, getThroughput(), getErrorCount());
+
+        out.printf("%nLatency (ms) %11s", "");
+        for (double percentile : PERCENTILES) {
+            out.printf("%10s", "p" + (percentile == (long) percentile ? String.valueOf((long) percentile) : percentile));
+        }
+        out.printf("%10s%n", "max");
+        printRow(out, "corrected", corrected);
+        printRow(out, "uncorrected", uncorrected);
+
+        if (!errors.isEmpty()) {
+            out.printf("%nErrors:%n");
+            errors.forEach((type, count) -> out.printf("  %-30s %d%n", type, count));
+        }
+    }
+
+    private static void printRow(PrintStream out, String label, LatencyHistogram histogram) {
+        out.printf("  %-22s", label);
+        for (double percentile : PERCENTILES) {
+            out.printf("%10.3f", histogram.getValueAtPercentile(percentile) / 1e6);
+        }
+        out.printf("%10.3f%n", histogram.getMax() / 1e6);
+    }
+}
@@ -0,0 +1,364 @@
+package com.jFastApi.loadtest;
+
+import com.jFastApi.JFastApiApplication;
+import com.jFastApi.exception.ApplicationException;
+import com.jFastApi.metrics.LatencyHistogram;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Load generator for applications built on JFastApi.
+ * <p>
+ * Starts the application in-process (or targets a running server) and drives it over
+ * loopback with {@link HttpClient} on virtual threads, in one of two modes:
+ * <ul>
+ *     <li>{@link Mode#OPEN}: requests are sent at a fixed arrival rate, independent of
+ *     responses, like real clients. Latency is measured from the scheduled send time, so
+ *     server stalls are not hidden by a client that stopped sending (coordinated omission).</li>
+ *     <li>{@link Mode#CLOSED}: a fixed number of connections each send the next request when
+ *     the previous response arrives. Latency is corrected by adding the samples a worker
+ *     missed while stalled, using the median latency of the warmup as the expected interval.</li>
+ * </ul>
+ * Example:
+ * <pre>
+ * LoadReport report = new LoadTest.Builder()
+ *         .application(Main.class)
+ *         .get("/todo/find-all")
+ *         .openLoop(5_000)
+ *         .duration(Duration.ofSeconds(30))
+ *         .build()
+ *         .run();
+ * report.print(System.out);
+ * </pre>
+ */
+public final class LoadTest {
+
+    public enum Mode {OPEN, CLOSED}
+
+    private final Class<?> application;
+    private final URI baseUri;
+    private final String method;
+    private final String path;
+    private final byte[] body;
+    private final Map<String, String> headers;
+    private final Mode mode;
+    private final double rate;
+    private final int concurrency;
+    private final Duration duration;
+    private final Duration warmup;
+    private final Duration timeout;
+
+    private LoadTest(Builder builder) {
+        this.application = builder.application;
+        this.baseUri = builder.baseUri;
+        this.method = builder.method;
+        this.path = builder.path;
+        this.body = builder.body;
+        this.headers = Map.copyOf(builder.headers);
+        this.mode = builder.mode;
+        this.rate = builder.rate;
+        this.concurrency = builder.concurrency;
+        this.duration = builder.duration;
+        this.warmup = builder.warmup;
+        this.timeout = builder.timeout;
+    }
+
+    /**
+     * Runs the warmup, then the measured phase, and stops the application if it was started here.
+     */
+    public LoadReport run() {
+        HttpServer server = null;
+        URI base = baseUri;
+        if (application != null) {
+            // Loopback on a free port, so a running instance or the configured port is never in the way
+            server = JFastApiApplication.run(application, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            base = URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+        }
+
+        try (ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .connectTimeout(timeout)
+                     .executor(clientExecutor)
+                     .build()) {
+
+            HttpRequest request = buildRequest(base);
+
+            long expectedInterval = 0;
+            if (!warmup.isZero()) {
+                Recorder warmupRecorder = new Recorder();
+                runPhase(client, request, warmup, warmupRecorder, 0);
+                expectedInterval = warmupRecorder.uncorrected.getValueAtPercentile(50);
+            }
+
+            Recorder recorder = new Recorder();
+            long start = System.nanoTime();
+            runPhase(client, request, duration, recorder, expectedInterval);
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+            Map<String, Long> errors = new LinkedHashMap<>();
+            recorder.errors.forEach((type, count) -> errors.put(type, count.sum()));
+
+            return new LoadReport(mode, rate, concurrency, elapsed, recorder.sent.sum(), recorder.completed.sum(),
+                    recorder.corrected, recorder.uncorrected, errors);
+        } finally {
+            if (server != null) {
+                JFastApiApplication.stop(server);
+            }
+        }
+    }
+
+    private HttpRequest buildRequest(URI base) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(base.resolve(path))
+                .timeout(timeout)
+                .method(method, body.length == 0
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(body));
+        headers.forEach(builder::header);
+        return builder.build();
+    }
+
+    private void runPhase(HttpClient client, HttpRequest request, Duration length, Recorder recorder,
+                          long expectedInterval) {
+        if (mode == Mode.OPEN) {
+            runOpenLoop(client, request, length, recorder);
+        } else {
+            runClosedLoop(client, request, length, recorder, expectedInterval);
+        }
+    }
+
+    private void runOpenLoop(HttpClient client, HttpRequest request, Duration length, Recorder recorder) {
+        long interval = (long) (1_000_000_000L / rate);
+        long start = System.nanoTime();
+        long end = start + length.toNanos();
+
+        // Closing the executor waits for the requests still in flight
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long intended = start + i * interval;
+                if (intended - end >= 0) {
+                    break;
+                }
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                executor.execute(() -> {
+                    long sentAt = System.nanoTime();
+                    send(client, request, recorder);
+                    long now = System.nanoTime();
+                    // Measured from the schedule: a late send is part of the latency
+                    recorder.corrected.record(now - intended);
+                    recorder.uncorrected.record(now - sentAt);
+                });
+            }
+        }
+    }
+
+    private void runClosedLoop(HttpClient client, HttpRequest request, Duration length, Recorder recorder,
+                               long expectedInterval) {
+        long end = System.nanoTime() + length.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < concurrency; worker++) {
+                executor.execute(() -> {
+                    while (System.nanoTime() - end < 0) {
+                        long sentAt = System.nanoTime();
+                        send(client, request, recorder);
+                        long latency = System.nanoTime() - sentAt;
+                        recorder.corrected.recordCorrected(latency, expectedInterval);
+                        recorder.uncorrected.record(latency);
+                    }
+                });
+            }
+        }
+    }
+
+    private void send(HttpClient client, HttpRequest request, Recorder recorder) {
+        recorder.sent.increment();
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            recorder.completed.increment();
+            if (response.statusCode() >= 400) {
+                recorder.error("HTTP " + response.statusCode());
+            }
+        } catch (IOException ex) {
+            recorder.error(ex.getClass().getSimpleName());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            recorder.error(ex.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Samples of one phase, shared by all request threads.
+     */
+    private static final class Recorder {
+        private final LatencyHistogram corrected = new LatencyHistogram();
+        private final LatencyHistogram uncorrected = new LatencyHistogram();
+        private final LongAdder sent = new LongAdder();
+        private final LongAdder completed = new LongAdder();
+        private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+        private void error(String type) {
+            errors.computeIfAbsent(type, k -> new LongAdder()).increment();
+        }
+    }
+
+    public static class Builder {
+        private Class<?> application;
+        private URI baseUri;
+        private String method = "GET";
+        private String path = "/";
+        private byte[] body = new byte[0];
+        private final Map<String, String> headers = new LinkedHashMap<>();
+        private Mode mode = Mode.CLOSED;
+        private double rate;
+        private int concurrency = 16;
+        private Duration duration = Duration.ofSeconds(30);
+        private Duration warmup = Duration.ofSeconds(5);
+        private Duration timeout = Duration.ofSeconds(10);
+
+        /**
+         * Starts this application in-process and targets it over loopback.
+         */
+        public Builder application(Class<?> application) {
+            this.application = application;
+            return this;
+        }
+
+        /**
+         * Targets an already running server, e.g. {@code http://127.0.0.1:8085}.
+         */
+        public Builder baseUri(String baseUri) {
+            this.baseUri = URI.create(baseUri);
+            return this;
+        }
+
+        public Builder get(String path) {
+            return request("GET", path, null);
+        }
+
+        public Builder post(String path, String jsonBody) {
+            header("Content-Type", "application/json");
+            return request("POST", path, jsonBody);
+        }
+
+        public Builder request(String method, String path, String body) {
+            this.method = method;
+            this.path = path;
+            this.body = body == null ? new byte[0] : body.getBytes(StandardCharsets.UTF_8);
+            return this;
+        }
+
+        public Builder header(String name, String value) {
+            this.headers.put(name, value);
+            return this;
+        }
+
+        /**
+         * Fixed arrival rate of {@code requestsPerSecond}, regardless of response times.
+         */
+        public Builder openLoop(double requestsPerSecond) {
+            this.mode = Mode.OPEN;
+            this.rate = requestsPerSecond;
+            return this;
+        }
+
+        /**
+         * {@code connections} workers, each sending its next request once the previous one completed.
+         */
+        public Builder closedLoop(int connections) {
+            this.mode = Mode.CLOSED;
+            this.concurrency = connections;
+            return this;
+        }
+
+        public Builder duration(Duration duration) {
+            this.duration = duration;
+            return this;
+        }
+
+        /**
+         * Unmeasured run before the measurement; zero disables it (and closed-loop correction).
+         */
+        public Builder warmup(Duration warmup) {
+            this.warmup = warmup;
+            return this;
+        }
+
+        public Builder timeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        public LoadTest build() {
+            if ((application == null) == (baseUri == null)) {
+                throw new ApplicationException("Either an application or a base URI must be set");
+            }
+            if (mode == Mode.OPEN && rate <= 0) {
+                throw new ApplicationException("Open-loop rate must be positive");
+            }
+            if (mode == Mode.CLOSED && concurrency <= 0) {
+                throw new ApplicationException("Closed-loop connections must be positive");
+            }
+            return new LoadTest(this);
+        }
+    }
+
+    /**
+     * Command-line entry point, e.g.
+     * <pre>
+     * java -cp app.jar com.jFastApi.loadtest.LoadTest --app com.example.Main --path /todo/find-all --rate 5000 --duration 30
+     * java -cp app.jar com.jFastApi.loadtest.LoadTest --url http://127.0.0.1:8085 --path /todo/find-all --connections 64
+     * </pre>
+     * Options: --app | --url, --method, --path, --body, --header Name:Value, --rate (open loop)
+     * | --connections (closed loop), --duration, --warmup (seconds).
+     */
+    public static void main(String[] args) throws ClassNotFoundException {
+        Builder builder = new Builder();
+        String method = "GET";
+        String path = "/";
+        String body = null;
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--app" -> builder.application(Class.forName(value));
+                case "--url" -> builder.baseUri(value);
+                case "--method" -> method = value.toUpperCase();
+                case "--path" -> path = value;
+                case "--body" -> body = value;
+                case "--header" -> {
+                    int colon = value.indexOf(':');
+                    builder.header(value.substring(0, colon).trim(), value.substring(colon + 1).trim());
+                }
+                case "--rate" -> builder.openLoop(Double.parseDouble(value));
+                case "--connections" -> builder.closedLoop(Integer.parseInt(value));
+                case "--duration" -> builder.duration(Duration.ofSeconds(Long.parseLong(value)));
+                case "--warmup" -> builder.warmup(Duration.ofSeconds(Long.parseLong(value)));
+                default -> throw new ApplicationException("Unknown option: " + args[i]);
+            }
+        }
+
+        LoadReport report = builder.request(method, path, body).build().run();
+        report.print(System.out);
+        System.exit(0);
+    }
+}
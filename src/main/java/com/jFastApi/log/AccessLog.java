@@ -0,0 +1,288 @@
+package com.jFastApi.log;
+
+import com.jFastApi.security.AuthUser;
+import com.jFastApi.security.SecurityContext;
+import com.jFastApi.util.PropertiesUtil;
+import com.jFastApi.util.RequestUtility;
+import com.sun.net.httpserver.HttpExchange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Built-in asynchronous access log.
+ * <p>
+ * Request threads only copy a handful of fields into a preallocated ring buffer
+ * ({@link AccessLogBuffer}); a single background writer drains it in batches to a
+ * size-rotated file. If the writer falls behind, records are dropped and counted
+ * rather than blocking requests. If the file cannot be opened or written, the writer
+ * retries every flush interval; records are dropped meanwhile.
+ * <p>
+ * Opt-in with {@code app.access_log.enabled}.
+ * <p>
+ * Line format (space separated, {@code -} for missing values):
+ * <pre>epochMillis method path status bytes latencyMicros principal clientIp</pre>
+ */
+public final class AccessLog {
+
+    private AccessLog() {
+    }
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AccessLog.class);
+
+    private static final boolean enabled = PropertiesUtil.getPropertyBoolean(PropertiesUtil.ACCESS_LOG_ENABLED, false);
+
+    private static final int BATCH_SIZE = 512;
+
+    private static AccessLogBuffer buffer;
+    private static Writer writer;
+
+    static {
+        if (enabled) {
+            buffer = new AccessLogBuffer(PropertiesUtil.getPropertyInteger(PropertiesUtil.ACCESS_LOG_BUFFER_SIZE, 8192));
+            writer = new Writer(
+                    Path.of(PropertiesUtil.getProperty(PropertiesUtil.ACCESS_LOG_FILE) != null
+                            ? PropertiesUtil.getProperty(PropertiesUtil.ACCESS_LOG_FILE)
+                            : "logs/access.log"),
+                    PropertiesUtil.getPropertyLong(PropertiesUtil.ACCESS_LOG_MAX_FILE_SIZE, 100L * 1024 * 1024),
+                    PropertiesUtil.getPropertyInteger(PropertiesUtil.ACCESS_LOG_MAX_FILES, 10),
+                    PropertiesUtil.getPropertyInteger(PropertiesUtil.ACCESS_LOG_FLUSH_INTERVAL_MS, 200)
+            );
+            writer.start();
+        }
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Records a completed exchange. Never blocks; drops the record if the buffer is full.
+     *
+     * @param exchange   the completed exchange (response already sent)
+     * @param startNanos System.nanoTime() taken when the request was received
+     */
+    public static void record(HttpExchange exchange, long startNanos) {
+        if (!enabled) {
+            return;
+        }
+
+        long latency = System.nanoTime() - startNanos;
+
+        // Content-length is set by HttpServer when a fixed-length body was sent
+        long bytes = Math.max(0, RequestUtility.getContentLength(exchange.getResponseHeaders()));
+
+        AuthUser user = SecurityContext.getCurrentUser();
+
+        buffer.publish(
+                System.currentTimeMillis(),
+                exchange.getRequestMethod(),
+                exchange.getRequestURI().getRawPath(),
+                exchange.getResponseCode(),
+                bytes,
+                latency,
+                user != null ? user.getUsername() : null,
+                RequestUtility.getClientIp(exchange)
+        );
+    }
+
+    /**
+     * @return number of records dropped because the ring buffer was full
+     */
+    public static long getDroppedCount() {
+        return enabled ? buffer.getDroppedCount() : 0;
+    }
+
+    /**
+     * Stops the writer after flushing everything already buffered.
+     */
+    public static void shutdown() {
+        if (enabled) {
+            writer.shutdown();
+        }
+    }
+
+    /**
+     * Single background thread that batches records into the log file and rotates it by size.
+     */
+    private static final class Writer implements Runnable {
+
+        private final Path file;
+        private final long maxFileSize;
+        private final int maxFiles;
+        private final long flushIntervalNanos;
+
+        private final Thread thread;
+        private volatile boolean running = true;
+
+        private final StringBuilder line = new StringBuilder(256);
+        private ByteBuffer out = ByteBuffer.allocate(64 * 1024);
+        private FileChannel channel;
+        private long fileSize;
+        private long reportedDrops;
+        private boolean failing;
+
+        private Writer(Path file, long maxFileSize, int maxFiles, long flushIntervalMillis) {
+            this.file = file;
+            this.maxFileSize = maxFileSize;
+            this.maxFiles = Math.max(1, maxFiles);
+            this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, flushIntervalMillis));
+            this.thread = new Thread(this, "jfastapi-access-log");
+            this.thread.setDaemon(true);
+        }
+
+        private void start() {
+            thread.start();
+        }
+
+        private void shutdown() {
+            running = false;
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                if (writeBatch() == 0) {
+                    reportDrops();
+                    LockSupport.parkNanos(flushIntervalNanos);
+                }
+            }
+            // Flush what is left after shutdown was requested
+            while (writeBatch() > 0) {
+                // keep draining
+            }
+            closeQuietly();
+        }
+
+        /**
+         * Opens the file if needed and writes one batch.
+         *
+         * @return the records written, 0 if there were none or the file is unavailable
+         */
+        private int writeBatch() {
+            try {
+                if (channel == null) {
+                    open();
+                }
+                int count = drainAndWrite();
+                if (failing) {
+                    LOGGER.info("Access log writer recovered, writing to {}", file);
+                    failing = false;
+                }
+                return count;
+            } catch (IOException ex) {
+                // Logged once per outage; the drop warnings show what it costs
+                if (!failing) {
+                    LOGGER.error("Access log unavailable, retrying every flush interval, error {}", ex.getMessage());
+                    failing = true;
+                }
+                closeQuietly();
+                channel = null;
+                out.clear();
+                return 0;
+            }
+        }
+
+        private int drainAndWrite() throws IOException {
+            int count = buffer.drain(this::encode, BATCH_SIZE);
+            if (count > 0) {
+                flush();
+            }
+            return count;
+        }
+
+        private void encode(AccessLogBuffer.Slot slot) {
+            line.setLength(0);
+            line.append(slot.timestampMillis).append(' ')
+                    .append(slot.method).append(' ')
+                    .append(slot.path).append(' ')
+                    .append(slot.status).append(' ')
+                    .append(slot.bytes).append(' ')
+                    .append(slot.latencyNanos / 1_000).append(' ')
+                    .append(slot.principal != null ? slot.principal : "-").append(' ')
+                    .append(slot.clientIp != null ? slot.clientIp : "-").append('\n');
+
+            byte[] bytes = line.toString().getBytes(StandardCharsets.UTF_8);
+            if (out.remaining() < bytes.length) {
+                try {
+                    flush();
+                } catch (IOException ex) {
+                    LOGGER.error("Failed to write access log, error {}", ex.getMessage());
+                    out.clear();
+                }
+                if (out.capacity() < bytes.length) {
+                    out = ByteBuffer.allocate(bytes.length);
+                }
+            }
+            out.put(bytes);
+        }
+
+        private void flush() throws IOException {
+            out.flip();
+            while (out.hasRemaining()) {
+                fileSize += channel.write(out);
+            }
+            out.clear();
+
+            if (fileSize >= maxFileSize) {
+                rotate();
+            }
+        }
+
+        private void open() throws IOException {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+            fileSize = channel.size();
+        }
+
+        // access.log -> access.log.1 -> ... -> access.log.N (oldest dropped)
+        private void rotate() throws IOException {
+            channel.close();
+
+            for (int i = maxFiles - 1; i >= 1; i--) {
+                Path source = Path.of(file + "." + i);
+                if (Files.exists(source)) {
+                    Files.move(source, Path.of(file + "." + (i + 1)), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            Files.move(file, Path.of(file + ".1"), StandardCopyOption.REPLACE_EXISTING);
+
+            open();
+        }
+
+        private void reportDrops() {
+            long drops = buffer.getDroppedCount();
+            if (drops > reportedDrops) {
+                LOGGER.warn("Access log buffer full, {} record(s) dropped so far", drops);
+                reportedDrops = drops;
+            }
+        }
+
+        private void closeQuietly() {
+            try {
+                if (channel != null) channel.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+}
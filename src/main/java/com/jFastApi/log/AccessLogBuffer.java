@@ -0,0 +1,119 @@
+package com.jFastApi.log;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Preallocated, lock-free multi-producer / single-consumer ring buffer of access log records.
+ * <p>
+ * Producers claim a sequence with a CAS and fill the slot in place, so publishing a record
+ * allocates nothing. When the buffer is full the record is dropped and counted instead of
+ * blocking the request thread.
+ */
+final class AccessLogBuffer {
+
+    private final Slot[] slots;
+    private final int mask;
+
+    // Next sequence to be claimed by a producer
+    private final AtomicLong claimed = new AtomicLong();
+
+    // Next sequence to be read by the consumer
+    private final AtomicLong consumed = new AtomicLong();
+
+    private final LongAdder dropped = new LongAdder();
+
+    AccessLogBuffer(int requestedCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.slots = new Slot[capacity];
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot();
+        }
+    }
+
+    /**
+     * Publishes a record, or drops it if the buffer is full.
+     *
+     * @return true if the record was published
+     */
+    boolean publish(long timestampMillis, String method, String path, int status, long bytes,
+                    long latencyNanos, String principal, String clientIp) {
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed.get() >= slots.length) {
+                dropped.increment();
+                return false;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+        Slot slot = slots[(int) (sequence & mask)];
+        slot.timestampMillis = timestampMillis;
+        slot.method = method;
+        slot.path = path;
+        slot.status = status;
+        slot.bytes = bytes;
+        slot.latencyNanos = latencyNanos;
+        slot.principal = principal;
+        slot.clientIp = clientIp;
+
+        // Release the slot to the consumer only after all fields are written
+        slot.published = sequence;
+        return true;
+    }
+
+    /**
+     * Hands up to {@code max} published records to the consumer, in order.
+     * Must only be called from the single writer thread.
+     *
+     * @return number of records consumed
+     */
+    int drain(RecordConsumer consumer, int max) {
+        long next = consumed.get();
+        int count = 0;
+
+        while (count < max) {
+            Slot slot = slots[(int) (next & mask)];
+            if (slot.published != next) {
+                break; // not yet published (or claimed but still being filled)
+            }
+            consumer.accept(slot);
+
+            // Drop references so the slot does not pin request strings
+            slot.path = null;
+            slot.principal = null;
+            slot.clientIp = null;
+
+            next++;
+            count++;
+            consumed.lazySet(next);
+        }
+        return count;
+    }
+
+    long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+
+    @FunctionalInterface
+    interface RecordConsumer {
+        void accept(Slot slot);
+    }
+
+    static final class Slot {
+        volatile long published = -1;
+        long timestampMillis;
+        String method;
+        String path;
+        int status;
+        long bytes;
+        long latencyNanos;
+        String principal;
+        String clientIp;
+    }
+}
@@ -0,0 +1,122 @@
+package com.jFastApi.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free log-linear histogram of non-negative long values (typically nanoseconds).
+ * <p>
+ * Each power-of-two range is split into {@value #SUB_BUCKETS} linear sub-buckets, which
+ * bounds the relative error to 12.5% over the full {@code long} range with a fixed
+ * array of counters. Recording is a few bit operations plus one atomic increment and
+ * never allocates.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BITS = 3;
+    static final int SUB_BUCKETS = 1 << SUB_BITS;
+    static final int BUCKET_COUNT = (64 - SUB_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+
+    /**
+     * Records one value. Negative values are recorded as zero.
+     */
+    public void record(long value) {
+        if (value < 0) value = 0;
+        counts.incrementAndGet(indexOf(value));
+        count.increment();
+        sum.add(value);
+    }
+
+    /**
+     * Records a value measured with an expected interval between samples, adding the
+     * samples that a stalled measurement loop would have missed (coordinated omission correction).
+     */
+    public void recordCorrected(long value, long expectedInterval) {
+        record(value);
+        if (expectedInterval <= 0) {
+            return;
+        }
+        for (long missing = value - expectedInterval; missing >= expectedInterval; missing -= expectedInterval) {
+            record(missing);
+        }
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getSum() {
+        return sum.sum();
+    }
+
+    /**
+     * Number of recorded values less than or equal to {@code bound} (bucket resolution).
+     */
+    public long getCountAtOrBelow(long bound) {
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (upperBound(i) > bound) {
+                break;
+            }
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * Returns an upper estimate of the value at the given percentile (0-100).
+     */
+    public long getValueAtPercentile(double percentile) {
+        long total = getCount();
+        if (total == 0) {
+            return 0;
+        }
+
+        long target = Math.max(1, (long) Math.ceil(total * Math.min(100.0, percentile) / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return upperBound(i);
+            }
+        }
+        return upperBound(BUCKET_COUNT - 1);
+    }
+
+    public long getMax() {
+        for (int i = BUCKET_COUNT - 1; i >= 0; i--) {
+            if (counts.get(i) > 0) {
+                return upperBound(i);
+            }
+        }
+        return 0;
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BITS;
+        int sub = (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+        return (shift + 1) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * Largest value that falls into the given bucket.
+     */
+    static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long sub = index % SUB_BUCKETS;
+        long lower = (SUB_BUCKETS + sub) << shift;
+        long upper = lower + (1L << shift) - 1;
+        return upper < 0 ? Long.MAX_VALUE : upper;
+    }
+}
@@ -0,0 +1,208 @@
+package com.jFastApi.metrics;
+
+import com.jFastApi.enumeration.HttpStatus;
+import com.jFastApi.exception.ApplicationException;
+import com.jFastApi.log.AccessLog;
+import com.jFastApi.security.CachingAuthUserService;
+import com.jFastApi.security.PooledPasswordEncoder;
+import com.jFastApi.security.SecurityContext;
+import com.jFastApi.util.JsonUtility;
+import com.jFastApi.util.MeteredRecyclerPool;
+import com.jFastApi.util.ResponseUtility;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Serves all metrics in the Prometheus text exposition format (version 0.0.4).
+ * <p>
+ * Registered as its own HttpServer context, so scrapes bypass the dispatcher,
+ * interceptors and the route metrics themselves.
+ */
+public final class MetricsHandler implements HttpHandler {
+
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    // Histogram bucket bounds in seconds
+    private static final double[] BUCKETS = {
+            0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10
+    };
+
+    private static final long[] BUCKET_NANOS = new long[BUCKETS.length];
+
+    static {
+        for (int i = 0; i < BUCKETS.length; i++) {
+            BUCKET_NANOS[i] = (long) (BUCKETS[i] * 1_000_000_000L);
+        }
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) {
+        // HttpServer contexts match by prefix; only serve the exact path
+        if (!exchange.getRequestURI().getPath().equals(MetricsRegistry.getPath())) {
+            ResponseUtility.sendErrorResponse(new ApplicationException("Not Found"), exchange, HttpStatus.NOT_FOUND);
+            return;
+        }
+        if (!exchange.getRequestMethod().equalsIgnoreCase("GET")) {
+            ResponseUtility.sendErrorResponse(new ApplicationException("Method Not Allowed"), exchange, HttpStatus.METHOD_NOT_ALLOWED);
+            return;
+        }
+
+        ResponseUtility.sendResponse(exchange, HttpStatus.OK.getCode(), CONTENT_TYPE, scrape());
+    }
+
+    /**
+     * Renders the current value of every metric.
+     */
+    public static String scrape() {
+        StringBuilder out = new StringBuilder(16 * 1024);
+
+        writeRequestHistograms(out);
+        writePhaseHistograms(out);
+
+        header(out, "jfastapi_http_server_requests_in_flight", "gauge", "Requests currently being processed.");
+        out.append("jfastapi_http_server_requests_in_flight ").append(MetricsRegistry.getInFlight()).append('\n');
+
+        header(out, "jfastapi_http_server_route_requests_in_flight", "gauge", "Requests currently being processed per route.");
+        MetricsRegistry.forEachRoute(route -> {
+            out.append("jfastapi_http_server_route_requests_in_flight");
+            routeLabels(out, route).append("} ").append(route.getInFlight()).append('\n');
+        });
+
+        header(out, "jfastapi_http_server_request_bytes_total", "counter", "Request body bytes received (declared Content-Length).");
+        MetricsRegistry.forEachRoute(route -> {
+            out.append("jfastapi_http_server_request_bytes_total");
+            routeLabels(out, route).append("} ").append(route.getBytesIn()).append('\n');
+        });
+
+        header(out, "jfastapi_http_server_response_bytes_total", "counter", "Response body bytes sent (fixed-length responses).");
+        MetricsRegistry.forEachRoute(route -> {
+            out.append("jfastapi_http_server_response_bytes_total");
+            routeLabels(out, route).append("} ").append(route.getBytesOut()).append('\n');
+        });
+
+        header(out, "jfastapi_http_server_exceptions_total", "counter", "Exceptions that ended a request, by type.");
+        for (Map.Entry<Class<?>, LongAdder> entry : MetricsRegistry.getExceptions().entrySet()) {
+            out.append("jfastapi_http_server_exceptions_total{exception=\"");
+            escape(out, entry.getKey().getName()).append("\"} ").append(entry.getValue().sum()).append('\n');
+        }
+
+        MeteredRecyclerPool pool = JsonUtility.getRecyclerPool();
+        header(out, "jfastapi_json_buffer_recycler_acquired_total", "counter", "Jackson buffer recyclers acquired.");
+        out.append("jfastapi_json_buffer_recycler_acquired_total ").append(pool.getAcquiredCount()).append('\n');
+        header(out, "jfastapi_json_buffer_recycler_created_total", "counter", "Jackson buffer recyclers allocated because the pool was empty.");
+        out.append("jfastapi_json_buffer_recycler_created_total ").append(pool.getCreatedCount()).append('\n');
+
+        header(out, "jfastapi_access_log_dropped_total", "counter", "Access log records dropped because the buffer was full.");
+        out.append("jfastapi_access_log_dropped_total ").append(AccessLog.getDroppedCount()).append('\n');
+
+        if (SecurityContext.getPasswordEncoder() instanceof PooledPasswordEncoder passwords) {
+            writePasswordHashing(out, passwords);
+        }
+
+        CachingAuthUserService userCache = SecurityContext.getUserCache();
+        if (userCache != null) {
+            header(out, "jfastapi_auth_user_cache_hits_total", "counter", "Authorization user lookups served from the cache.");
+            out.append("jfastapi_auth_user_cache_hits_total ").append(userCache.getHitCount()).append('\n');
+            header(out, "jfastapi_auth_user_cache_misses_total", "counter", "Authorization user lookups loaded from the AuthUserService.");
+            out.append("jfastapi_auth_user_cache_misses_total ").append(userCache.getMissCount()).append('\n');
+            header(out, "jfastapi_auth_user_cache_size", "gauge", "Users currently cached, including unknown usernames.");
+            out.append("jfastapi_auth_user_cache_size ").append(userCache.size()).append('\n');
+        }
+
+        return out.toString();
+    }
+
+    private static void writeRequestHistograms(StringBuilder out) {
+        String name = "jfastapi_http_server_requests_seconds";
+        header(out, name, "histogram", "Request latency by route and response status.");
+
+        MetricsRegistry.forEachRoute(route -> route.forEachStatus((status, histogram) ->
+                writeHistogram(out, name, histogram, o -> routeLabels(o, route).append(",status=\"").append(status).append('"'))));
+    }
+
+    private static void writePhaseHistograms(StringBuilder out) {
+        String name = "jfastapi_http_server_phase_seconds";
+        header(out, name, "histogram", "Time spent per request phase (phases may nest).");
+
+        MetricsRegistry.forEachRoute(route -> {
+            for (ServerTiming.Phase phase : ServerTiming.Phase.values()) {
+                LatencyHistogram histogram = route.phaseIfPresent(phase);
+                if (histogram != null) {
+                    writeHistogram(out, name, histogram,
+                            o -> routeLabels(o, route).append(",phase=\"").append(phase.getMetricName()).append('"'));
+                }
+            }
+        });
+    }
+
+    private static void writePasswordHashing(StringBuilder out, PooledPasswordEncoder passwords) {
+        header(out, "jfastapi_password_hashing_queue_depth", "gauge", "Password hashes waiting for a hashing thread.");
+        out.append("jfastapi_password_hashing_queue_depth ").append(passwords.getQueueDepth()).append('\n');
+        header(out, "jfastapi_password_hashing_active", "gauge", "Password hashes being computed.");
+        out.append("jfastapi_password_hashing_active ").append(passwords.getActiveCount()).append('\n');
+        header(out, "jfastapi_password_hashing_rejected_total", "counter", "Password hashes rejected because the queue was full.");
+        out.append("jfastapi_password_hashing_rejected_total ").append(passwords.getRejectedCount()).append('\n');
+
+        String name = "jfastapi_password_hashing_seconds";
+        header(out, name, "histogram", "Time spent hashing passwords, by operation.");
+        writeHistogram(out, name, passwords.getEncodeTime(), o -> o.append("{operation=\"encode\""));
+        writeHistogram(out, name, passwords.getMatchTime(), o -> o.append("{operation=\"matches\""));
+
+        name = "jfastapi_password_hashing_queue_seconds";
+        header(out, name, "histogram", "Time password hashes waited for a hashing thread.");
+        writeHistogram(out, name, passwords.getEncodeQueueTime(), o -> o.append("{operation=\"encode\""));
+        writeHistogram(out, name, passwords.getMatchQueueTime(), o -> o.append("{operation=\"matches\""));
+    }
+
+    private static void writeHistogram(StringBuilder out, String name, LatencyHistogram histogram,
+                                       Consumer<StringBuilder> labels) {
+        // Read the total first so buckets never exceed the reported count
+        long count = histogram.getCount();
+        long sum = histogram.getSum();
+
+        for (int i = 0; i < BUCKETS.length; i++) {
+            out.append(name).append("_bucket");
+            labels.accept(out);
+            out.append(",le=\"").append(BUCKETS[i]).append("\"} ")
+                    .append(Math.min(count, histogram.getCountAtOrBelow(BUCKET_NANOS[i]))).append('\n');
+        }
+        out.append(name).append("_bucket");
+        labels.accept(out);
+        out.append(",le=\"+Inf\"} ").append(count).append('\n');
+
+        out.append(name).append("_sum");
+        labels.accept(out);
+        out.append("} ").append(sum / 1e9).append('\n');
+        out.append(name).append("_count");
+        labels.accept(out);
+        out.append("} ").append(count).append('\n');
+    }
+
+    private static void header(StringBuilder out, String name, String type, String help) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    // Leaves the label set open so callers can append more labels or close it
+    private static StringBuilder routeLabels(StringBuilder out, RouteMetrics route) {
+        out.append("{method=\"").append(route.getMethod()).append("\",path=\"");
+        return escape(out, route.getPath()).append('"');
+    }
+
+    private static StringBuilder escape(StringBuilder out, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> out.append("\\\\");
+                case '"' -> out.append("\\\"");
+                case '\n' -> out.append("\\n");
+                default -> out.append(c);
+            }
+        }
+        return out;
+    }
+}
@@ -0,0 +1,141 @@
+package com.jFastApi.metrics;
+
+import com.jFastApi.enumeration.HttpMethod;
+import com.jFastApi.http.Route;
+import com.jFastApi.util.PropertiesUtil;
+import com.jFastApi.util.RequestUtility;
+import com.jFastApi.util.StringUtility;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Central registry of request metrics.
+ * <p>
+ * Route metrics are created once at startup when routes are registered, so the
+ * dispatcher only performs a map lookup and a few atomic updates per request.
+ * Requests that do not match a route (404/405) are recorded under a single
+ * {@code unmatched} entry to keep the label cardinality bounded.
+ */
+public final class MetricsRegistry {
+
+    private MetricsRegistry() {
+    }
+
+    private static final boolean enabled = PropertiesUtil.getPropertyBoolean(PropertiesUtil.METRICS_ENABLED, false);
+
+    private static final String path = StringUtility.isEmpty(PropertiesUtil.getProperty(PropertiesUtil.METRICS_PATH))
+            ? "/metrics"
+            : PropertiesUtil.getProperty(PropertiesUtil.METRICS_PATH);
+
+    // path -> metrics indexed by HttpMethod ordinal
+    private static final Map<String, RouteMetrics[]> routes = new ConcurrentHashMap<>();
+    private static final RouteMetrics unmatched = new RouteMetrics("unmatched", "ANY");
+
+    private static final AtomicLong inFlight = new AtomicLong();
+    private static final Map<Class<?>, LongAdder> exceptions = new ConcurrentHashMap<>();
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return the path the metrics endpoint is served on
+     */
+    public static String getPath() {
+        return path;
+    }
+
+    /**
+     * Creates the metrics of a route. Called once per route at startup.
+     */
+    public static void register(Route route) {
+        if (!enabled) {
+            return;
+        }
+        RouteMetrics[] byMethod = routes.computeIfAbsent(route.path(), k -> new RouteMetrics[HttpMethod.values().length]);
+        byMethod[route.method().ordinal()] = new RouteMetrics(route.path(), route.method().name());
+    }
+
+    /**
+     * Marks the start of a request, before its route is known.
+     */
+    public static void requestStarted() {
+        if (enabled) {
+            inFlight.incrementAndGet();
+        }
+    }
+
+    /**
+     * Marks the request as in flight on its matched route.
+     */
+    public static void routeMatched(Route route) {
+        if (enabled) {
+            find(route).started();
+        }
+    }
+
+    /**
+     * Records a completed request. Must be called once for every {@link #requestStarted()}.
+     *
+     * @param exchange   the completed exchange (response already sent)
+     * @param route      the matched route, or null if none matched
+     * @param startNanos System.nanoTime() taken when the request was received
+     * @param failure    the exception that ended the request, or null
+     */
+    public static void requestCompleted(HttpExchange exchange, Route route, long startNanos, Throwable failure) {
+        if (!enabled) {
+            return;
+        }
+
+        long latency = System.nanoTime() - startNanos;
+        inFlight.decrementAndGet();
+
+        RouteMetrics metrics = route != null ? find(route) : unmatched;
+        if (route != null) {
+            metrics.finished();
+        }
+        metrics.record(
+                exchange.getResponseCode(),
+                latency,
+                RequestUtility.getContentLength(exchange.getRequestHeaders()),
+                RequestUtility.getContentLength(exchange.getResponseHeaders())
+        );
+
+        if (failure != null) {
+            exceptions.computeIfAbsent(failure.getClass(), k -> new LongAdder()).increment();
+        }
+    }
+
+    static long getInFlight() {
+        return inFlight.get();
+    }
+
+    static Map<Class<?>, LongAdder> getExceptions() {
+        return exceptions;
+    }
+
+    /**
+     * Visits all route metrics, the unmatched entry last.
+     */
+    static void forEachRoute(Consumer<RouteMetrics> consumer) {
+        for (RouteMetrics[] byMethod : routes.values()) {
+            for (RouteMetrics metrics : byMethod) {
+                if (metrics != null) {
+                    consumer.accept(metrics);
+                }
+            }
+        }
+        consumer.accept(unmatched);
+    }
+
+    static RouteMetrics find(Route route) {
+        RouteMetrics[] byMethod = routes.get(route.path());
+        RouteMetrics metrics = byMethod != null ? byMethod[route.method().ordinal()] : null;
+        return metrics != null ? metrics : unmatched;
+    }
+}
@@ -0,0 +1,117 @@
+package com.jFastApi.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of a single route (path + HTTP method).
+ * <p>
+ * Latency histograms are kept per response status and created on the first response
+ * with that status; every later recording is allocation-free. The same applies to the
+ * per-phase histograms fed by {@link ServerTiming}.
+ */
+public final class RouteMetrics {
+
+    private static final int MAX_STATUS = 600;
+
+    private final String path;
+    private final String method;
+
+    private final AtomicReferenceArray<LatencyHistogram> byStatus = new AtomicReferenceArray<>(MAX_STATUS);
+    private final AtomicReferenceArray<LatencyHistogram> byPhase =
+            new AtomicReferenceArray<>(ServerTiming.Phase.values().length);
+    private final AtomicLong inFlight = new AtomicLong();
+    private final LongAdder bytesIn = new LongAdder();
+    private final LongAdder bytesOut = new LongAdder();
+
+    RouteMetrics(String path, String method) {
+        this.path = path;
+        this.method = method;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    void started() {
+        inFlight.incrementAndGet();
+    }
+
+    void finished() {
+        inFlight.decrementAndGet();
+    }
+
+    void record(int status, long latencyNanos, long requestBytes, long responseBytes) {
+        histogram(status).record(latencyNanos);
+        if (requestBytes > 0) bytesIn.add(requestBytes);
+        if (responseBytes > 0) bytesOut.add(responseBytes);
+    }
+
+    /**
+     * Returns the histogram of the given status, creating it on first use.
+     * Out-of-range statuses (e.g. -1 when no response was sent) are reported as 0.
+     */
+    LatencyHistogram histogram(int status) {
+        int index = status > 0 && status < MAX_STATUS ? status : 0;
+        LatencyHistogram histogram = byStatus.get(index);
+        if (histogram == null) {
+            byStatus.compareAndSet(index, null, new LatencyHistogram());
+            histogram = byStatus.get(index);
+        }
+        return histogram;
+    }
+
+    /**
+     * Returns the histogram of the given request phase, creating it on first use.
+     */
+    LatencyHistogram phase(ServerTiming.Phase phase) {
+        int index = phase.ordinal();
+        LatencyHistogram histogram = byPhase.get(index);
+        if (histogram == null) {
+            byPhase.compareAndSet(index, null, new LatencyHistogram());
+            histogram = byPhase.get(index);
+        }
+        return histogram;
+    }
+
+    /**
+     * Returns the histogram of the given phase, or null if it never ran on this route.
+     */
+    LatencyHistogram phaseIfPresent(ServerTiming.Phase phase) {
+        return byPhase.get(phase.ordinal());
+    }
+
+    long getInFlight() {
+        return inFlight.get();
+    }
+
+    long getBytesIn() {
+        return bytesIn.sum();
+    }
+
+    long getBytesOut() {
+        return bytesOut.sum();
+    }
+
+    /**
+     * Visits every status that has recorded at least one request.
+     */
+    void forEachStatus(StatusVisitor visitor) {
+        for (int status = 0; status < MAX_STATUS; status++) {
+            LatencyHistogram histogram = byStatus.get(status);
+            if (histogram != null) {
+                visitor.visit(status, histogram);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface StatusVisitor {
+        void visit(int status, LatencyHistogram histogram);
+    }
+}
@@ -0,0 +1,147 @@
+package com.jFastApi.metrics;
+
+import com.jFastApi.http.Route;
+import com.jFastApi.util.PropertiesUtil;
+import com.jFastApi.util.RequestUtility;
+import com.sun.net.httpserver.HttpExchange;
+
+/**
+ * Per-request breakdown of where the time went.
+ * <p>
+ * The dispatcher and framework components time their phases with {@link #start()} and
+ * {@link #stop(Phase, long)}. Like {@code SecurityContext}, the timing is bound to the
+ * request thread. Each timed phase goes straight to the route's histograms when metrics are
+ * enabled, so that costs no allocation per request. The per-request breakdown is only kept
+ * when a {@code Server-Timing} header was requested; otherwise timing is a no-op.
+ * <p>
+ * Phases may nest ({@link Phase#AUTH} runs inside {@link Phase#INTERCEPTORS},
+ * {@link Phase#DB} usually inside {@link Phase#HANDLER}), so their durations are not additive.
+ * A phase that runs several times in a request, e.g. {@link Phase#DB}, is summed in the header
+ * but recorded once per run in the metrics.
+ */
+public final class ServerTiming {
+
+    /**
+     * Request header that asks for a {@code Server-Timing} response header on any route,
+     * honoured only when app.server_timing.debug_header.enabled is true.
+     */
+    public static final String DEBUG_HEADER = "X-Server-Timing";
+
+    private static final boolean debugHeaderEnabled =
+            PropertiesUtil.getPropertyBoolean(PropertiesUtil.SERVER_TIMING_DEBUG_HEADER_ENABLED, false);
+
+    private static final ThreadLocal<ServerTiming> current = new ThreadLocal<>();
+    private static final ThreadLocal<RouteMetrics> currentMetrics = new ThreadLocal<>();
+
+    public enum Phase {
+        INTERCEPTORS("interceptors"),
+        AUTH("auth"),
+        RESOLVE("resolve"),
+        HANDLER("handler"),
+        DB("db"),
+        POST("post"),
+        SERIALIZE("serialize");
+
+        private final String metricName;
+
+        Phase(String metricName) {
+            this.metricName = metricName;
+        }
+
+        public String getMetricName() {
+            return metricName;
+        }
+    }
+
+    private final long startNanos;
+    private final long[] nanos = new long[Phase.values().length];
+    private int ran; // bit set of phases that were timed
+
+    private ServerTiming(long startNanos) {
+        this.startNanos = startNanos;
+    }
+
+    /**
+     * Starts timing the current request once its route is known.
+     *
+     * @param startNanos System.nanoTime() taken when the request was received
+     */
+    public static void begin(HttpExchange exchange, Route route, long startNanos) {
+        boolean emitHeader = route.serverTiming()
+                || (debugHeaderEnabled && RequestUtility.getHeader(exchange, DEBUG_HEADER) != null);
+        if (emitHeader) {
+            current.set(new ServerTiming(startNanos));
+        }
+        if (MetricsRegistry.isEnabled()) {
+            currentMetrics.set(MetricsRegistry.find(route));
+        }
+    }
+
+    /**
+     * @return the start of a phase, or 0 if the current request is not timed
+     */
+    public static long start() {
+        return current.get() != null || currentMetrics.get() != null ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Adds the time since {@code start} to the given phase of the current request.
+     */
+    public static void stop(Phase phase, long start) {
+        if (start == 0) {
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+
+        ServerTiming timing = current.get();
+        if (timing != null) {
+            timing.nanos[phase.ordinal()] += elapsed;
+            timing.ran |= 1 << phase.ordinal();
+        }
+        RouteMetrics metrics = currentMetrics.get();
+        if (metrics != null) {
+            metrics.phase(phase).record(elapsed);
+        }
+    }
+
+    /**
+     * Adds the {@code Server-Timing} header if it was requested. Must be called before
+     * the response headers are sent.
+     */
+    public static void writeHeader(HttpExchange exchange) {
+        ServerTiming timing = current.get();
+        if (timing == null) {
+            return;
+        }
+
+        StringBuilder header = new StringBuilder(128);
+        for (Phase phase : Phase.values()) {
+            if (timing.hasRun(phase)) {
+                appendMetric(header, phase.getMetricName(), timing.nanos[phase.ordinal()]);
+            }
+        }
+        appendMetric(header, "total", System.nanoTime() - timing.startNanos);
+
+        exchange.getResponseHeaders().set("Server-Timing", header.toString());
+    }
+
+    /**
+     * Unbinds the current request's timing.
+     */
+    public static void end() {
+        current.remove();
+        currentMetrics.remove();
+    }
+
+    private boolean hasRun(Phase phase) {
+        return (ran & (1 << phase.ordinal())) != 0;
+    }
+
+    // name;dur=milliseconds, as defined by the Server-Timing spec
+    private static void appendMetric(StringBuilder header, String name, long nanos) {
+        if (!header.isEmpty()) {
+            header.append(", ");
+        }
+        header.append(name).append(";dur=").append(nanos / 1_000 / 1000.0);
+    }
+}
@@ -0,0 +1,268 @@
+package com.jFastApi.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * Compile-time generator of reflection-free bean factories.
+ * <p>
+ * For every class annotated with {@code @Bean}, {@code @InterceptorBean} or
+ * {@code @SystemInterceptorBean}, the constructor the {@code BeanFactory} would pick at
+ * runtime (the public one with the most parameters) is resolved here, and a
+ * {@code <Type>_BeanProvider} class calling it directly is generated next to the bean. The
+ * providers are registered in {@code META-INF/services/com.jFastApi.BeanProvider}.
+ * <p>
+ * Abstract and generic classes, and constructors taking primitives or arrays, are skipped
+ * and keep using reflection at runtime.
+ */
+@SupportedAnnotationTypes({
+        BeanProviderProcessor.BEAN,
+        BeanProviderProcessor.INTERCEPTOR_BEAN,
+        BeanProviderProcessor.SYSTEM_INTERCEPTOR_BEAN
+})
+public class BeanProviderProcessor extends AbstractProcessor {
+
+    static final String BEAN = "com.jFastApi.annotation.Bean";
+    static final String INTERCEPTOR_BEAN = "com.jFastApi.annotation.InterceptorBean";
+    static final String SYSTEM_INTERCEPTOR_BEAN = "com.jFastApi.annotation.SystemInterceptorBean";
+    private static final String PROVIDER_INTERFACE = "com.jFastApi.BeanProvider";
+    private static final String SERVICE_FILE = "META-INF/services/" + PROVIDER_INTERFACE;
+
+    // Bean classes already handled (generated or rejected) across rounds
+    private final Set<String> visited = new HashSet<>();
+
+    // Fully qualified names of generated provider classes
+    private final Set<String> generated = new TreeSet<>();
+
+    // Provider names of the types whose sources are part of this compilation
+    private final Set<String> rootProviders = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            collectRootTypes(type);
+        }
+
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+            return false;
+        }
+
+        for (TypeElement annotation : annotations) {
+            for (TypeElement type : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(annotation))) {
+                if (visited.add(type.getQualifiedName().toString())) {
+                    consider(type);
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private void collectRootTypes(TypeElement type) {
+        rootProviders.add(providerName(type));
+        for (TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+            collectRootTypes(nested);
+        }
+    }
+
+    private void consider(TypeElement type) {
+        ExecutableElement constructor = selectConstructor(type);
+        if (constructor == null) {
+            note("Skipping bean provider for " + type.getQualifiedName() + ", reflection will be used");
+            return;
+        }
+
+        try {
+            generate(type, constructor);
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Failed to generate bean provider for " + type.getQualifiedName() + ": " + ex.getMessage(), type);
+        }
+    }
+
+    /**
+     * Returns the constructor the BeanFactory would call, or null when the class is left to reflection.
+     */
+    private ExecutableElement selectConstructor(TypeElement type) {
+
+        if (type.getKind() != ElementKind.CLASS
+                || type.getModifiers().contains(Modifier.ABSTRACT)
+                || !type.getTypeParameters().isEmpty()
+                || !isAccessibleFromPackage(type)) {
+            return null;
+        }
+
+        // Pick the public constructor with the most parameters (an implicit default constructor counts)
+        ExecutableElement selected = null;
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getModifiers().contains(Modifier.PUBLIC)
+                    && (selected == null || constructor.getParameters().size() > selected.getParameters().size())) {
+                selected = constructor;
+            }
+        }
+        if (selected == null) {
+            return null;
+        }
+
+        // Only beans can be injected; anything else fails at runtime with the reflective path's message
+        for (VariableElement parameter : selected.getParameters()) {
+            if (parameter.asType().getKind() != TypeKind.DECLARED) {
+                return null;
+            }
+        }
+        return selected;
+    }
+
+    // Top-level or static member classes that the generated provider, in the same package, can see
+    private static boolean isAccessibleFromPackage(TypeElement type) {
+        Element current = type;
+        while (current instanceof TypeElement element) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (element.getNestingKind() == NestingKind.MEMBER) {
+                if (!element.getModifiers().contains(Modifier.STATIC)) {
+                    return false;
+                }
+            } else if (element.getNestingKind() != NestingKind.TOP_LEVEL) {
+                return false;
+            }
+            current = element.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type, ExecutableElement constructor) throws IOException {
+
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String typeName = type.getQualifiedName().toString();
+        String qualifiedProviderName = providerName(type);
+        String providerName = packageName.isEmpty()
+                ? qualifiedProviderName
+                : qualifiedProviderName.substring(packageName.length() + 1);
+
+        List<String> parameterTypes = new ArrayList<>();
+        for (VariableElement parameter : constructor.getParameters()) {
+            TypeMirror erasure = processingEnv.getTypeUtils().erasure(parameter.asType());
+            parameterTypes.add(erasure.toString());
+        }
+
+        StringBuilder src = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            src.append("package ").append(packageName).append(";\n\n");
+        }
+        src.append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n");
+        src.append("public final class ").append(providerName)
+                .append(" implements ").append(PROVIDER_INTERFACE).append('<').append(typeName).append("> {\n\n");
+
+        src.append("    private static final java.util.List<Class<?>> DEPENDENCIES = java.util.List.of(");
+        for (int i = 0; i < parameterTypes.size(); i++) {
+            if (i > 0) src.append(", ");
+            src.append(parameterTypes.get(i)).append(".class");
+        }
+        src.append(");\n");
+
+        src.append("\n    @Override\n    public Class<").append(typeName).append("> type() {\n")
+                .append("        return ").append(typeName).append(".class;\n    }\n");
+
+        src.append("\n    @Override\n    public java.util.List<Class<?>> dependencies() {\n")
+                .append("        return DEPENDENCIES;\n    }\n");
+
+        // Casts to erased types: generic parameters (e.g. a Repository<Todo>) are wired by raw class
+        src.append("\n    @Override\n    @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n    public ")
+                .append(typeName).append(" create(Object... dependencies) throws Exception {\n")
+                .append("        return new ").append(typeName).append('(');
+        for (int i = 0; i < parameterTypes.size(); i++) {
+            if (i > 0) src.append(", ");
+            src.append('(').append(parameterTypes.get(i)).append(") dependencies[").append(i).append(']');
+        }
+        src.append(");\n    }\n}\n");
+
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedProviderName, type);
+        try (Writer writer = file.openWriter()) {
+            writer.write(src.toString());
+        }
+        generated.add(qualifiedProviderName);
+    }
+
+    private String providerName(TypeElement type) {
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String typeName = type.getQualifiedName().toString();
+        String binaryTail = packageName.isEmpty() ? typeName : typeName.substring(packageName.length() + 1);
+        String providerName = binaryTail.replace('.', '_') + "_BeanProvider";
+        return packageName.isEmpty() ? providerName : packageName + "." + providerName;
+    }
+
+    private void writeServiceFile() {
+        readPreviousServiceFile();
+        if (generated.isEmpty()) {
+            return;
+        }
+
+        try {
+            FileObject file = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer writer = file.openWriter()) {
+                for (String provider : generated) {
+                    writer.write(provider);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Failed to write " + SERVICE_FILE + ": " + ex.getMessage());
+        }
+    }
+
+    // Keeps providers of beans that were not recompiled and still exist
+    private void readPreviousServiceFile() {
+        FileObject previous;
+        try {
+            previous = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+        } catch (IOException | IllegalArgumentException ex) {
+            return;
+        }
+
+        try (Reader reader = previous.openReader(true);
+             BufferedReader lines = new BufferedReader(reader)) {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                String provider = line.trim();
+                if (provider.isEmpty()
+                        || rootProviders.contains(provider)
+                        || processingEnv.getElementUtils().getTypeElement(provider) == null) {
+                    continue;
+                }
+                generated.add(provider);
+            }
+        } catch (IOException ex) {
+            // No previous service file: full build
+        }
+    }
+
+    private void note(String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, message);
+    }
+}
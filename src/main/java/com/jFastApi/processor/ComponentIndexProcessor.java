@@ -0,0 +1,157 @@
+package com.jFastApi.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Compile-time index of the classes the framework discovers at startup.
+ * <p>
+ * Records every class annotated with {@code @Bean}, {@code @InterceptorBean},
+ * {@code @SystemInterceptorBean} or {@code @Entity}, and every class declaring an
+ * {@code @HttpRoute} or {@code @ExceptionHandler} method, in
+ * {@code META-INF/jfastapi/components.idx}. Each line is the annotation and the binary
+ * class name, separated by a space. {@code ComponentIndex} reads the file instead of
+ * walking the classpath.
+ * <p>
+ * On incremental compilation only changed sources are processed, so entries of the
+ * previous index are kept as long as their class still exists and was not recompiled.
+ */
+@SupportedAnnotationTypes({
+        ComponentIndexProcessor.BEAN,
+        ComponentIndexProcessor.INTERCEPTOR_BEAN,
+        ComponentIndexProcessor.SYSTEM_INTERCEPTOR_BEAN,
+        ComponentIndexProcessor.HTTP_ROUTE,
+        ComponentIndexProcessor.EXCEPTION_HANDLER,
+        ComponentIndexProcessor.ENTITY
+})
+public class ComponentIndexProcessor extends AbstractProcessor {
+
+    static final String BEAN = "com.jFastApi.annotation.Bean";
+    static final String INTERCEPTOR_BEAN = "com.jFastApi.annotation.InterceptorBean";
+    static final String SYSTEM_INTERCEPTOR_BEAN = "com.jFastApi.annotation.SystemInterceptorBean";
+    static final String HTTP_ROUTE = "com.jFastApi.annotation.HttpRoute";
+    static final String EXCEPTION_HANDLER = "com.jFastApi.annotation.ExceptionHandler";
+    static final String ENTITY = "jakarta.persistence.Entity";
+
+    // Must match ComponentIndex.LOCATION
+    private static final String INDEX_FILE = "META-INF/jfastapi/components.idx";
+
+    // annotation -> binary names of indexed classes
+    private final Map<String, Set<String>> index = new TreeMap<>();
+
+    // Types whose sources are part of this compilation
+    private final Set<String> rootTypes = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            collectRootTypes(type);
+        }
+
+        if (roundEnv.processingOver()) {
+            writeIndex();
+            return false;
+        }
+
+        for (TypeElement annotation : annotations) {
+            String annotationName = annotation.getQualifiedName().toString();
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                TypeElement type = element instanceof TypeElement typeElement
+                        ? typeElement
+                        : (TypeElement) element.getEnclosingElement();
+                add(annotationName, binaryName(type));
+            }
+        }
+
+        return false;
+    }
+
+    private void collectRootTypes(TypeElement type) {
+        rootTypes.add(binaryName(type));
+        for (TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+            collectRootTypes(nested);
+        }
+    }
+
+    private String binaryName(TypeElement type) {
+        return processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+
+    private void add(String annotation, String className) {
+        index.computeIfAbsent(annotation, k -> new TreeSet<>()).add(className);
+    }
+
+    private void writeIndex() {
+        readPreviousIndex();
+        if (index.isEmpty()) {
+            return;
+        }
+
+        try {
+            FileObject file = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_FILE);
+            try (Writer writer = file.openWriter()) {
+                for (Map.Entry<String, Set<String>> entry : index.entrySet()) {
+                    for (String className : entry.getValue()) {
+                        writer.write(entry.getKey() + " " + className + "\n");
+                    }
+                }
+            }
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Failed to write component index: " + ex.getMessage());
+        }
+    }
+
+    // Keeps entries of classes that were not recompiled and still exist
+    private void readPreviousIndex() {
+        FileObject previous;
+        try {
+            previous = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_FILE);
+        } catch (IOException | IllegalArgumentException ex) {
+            return;
+        }
+
+        try (Reader reader = previous.openReader(true);
+             BufferedReader lines = new BufferedReader(reader)) {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                int space = line.indexOf(' ');
+                if (space < 0) {
+                    continue;
+                }
+                String className = line.substring(space + 1).trim();
+                if (rootTypes.contains(className)
+                        || processingEnv.getElementUtils().getTypeElement(className.replace('$', '.')) == null) {
+                    continue;
+                }
+                add(line.substring(0, space), className);
+            }
+        } catch (IOException ex) {
+            // No previous index: full build
+        }
+    }
+}
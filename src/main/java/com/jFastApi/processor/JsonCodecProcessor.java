@@ -0,0 +1,504 @@
+package com.jFastApi.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * Compile-time generator of reflection-free JSON codecs.
+ * <p>
+ * For every method annotated with {@code @HttpRoute}, the types of its {@code @RequestBody}
+ * parameters and the {@code T} of a {@code Response<T>} return type are inspected. Plain
+ * records and JavaBeans (public no-arg constructor with matching getters/setters) get a
+ * generated {@code <Type>_JsonCodec} class that streams fields directly through Jackson's
+ * {@code JsonGenerator}/{@code JsonParser}. The codecs are registered in
+ * {@code META-INF/services/com.jFastApi.json.JsonCodec} and picked up by {@code JsonCodecRegistry}.
+ * <p>
+ * Types that carry Jackson annotations, are generic, abstract, or use unsupported shapes
+ * are skipped and keep using Jackson databind at runtime.
+ */
+@SupportedAnnotationTypes(JsonCodecProcessor.HTTP_ROUTE)
+public class JsonCodecProcessor extends AbstractProcessor {
+
+    static final String HTTP_ROUTE = "com.jFastApi.annotation.HttpRoute";
+    private static final String REQUEST_BODY = "com.jFastApi.annotation.RequestBody";
+    private static final String RESPONSE = "com.jFastApi.http.Response";
+    private static final String CODEC_INTERFACE = "com.jFastApi.json.JsonCodec";
+    private static final String SUPPORT = "com.jFastApi.json.JsonCodecSupport";
+    private static final String SERVICE_FILE = "META-INF/services/" + CODEC_INTERFACE;
+    private static final String JACKSON_ANNOTATION_PACKAGE = "com.fasterxml.jackson";
+
+    // Types already handled (generated or rejected) across rounds
+    private final Set<String> visited = new HashSet<>();
+
+    // Fully qualified names of generated codec classes
+    private final Set<String> generated = new TreeSet<>();
+
+    // Types whose sources are part of this compilation
+    private final Set<String> rootTypes = new HashSet<>();
+
+    // Codec names of those types
+    private final Set<String> rootCodecs = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            collectRootTypes(type);
+        }
+
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+            return false;
+        }
+
+        TypeElement httpRoute = processingEnv.getElementUtils().getTypeElement(HTTP_ROUTE);
+        if (httpRoute == null) {
+            return false;
+        }
+
+        for (ExecutableElement method : ElementFilter.methodsIn(roundEnv.getElementsAnnotatedWith(httpRoute))) {
+
+            // @RequestBody parameters
+            for (VariableElement param : method.getParameters()) {
+                if (hasAnnotation(param, REQUEST_BODY)) {
+                    consider(param.asType());
+                }
+            }
+
+            // Response<T> bodies
+            TypeMirror returnType = method.getReturnType();
+            if (returnType.getKind() == TypeKind.DECLARED) {
+                DeclaredType declared = (DeclaredType) returnType;
+                if (declared.asElement().toString().equals(RESPONSE) && declared.getTypeArguments().size() == 1) {
+                    consider(declared.getTypeArguments().getFirst());
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private void collectRootTypes(TypeElement type) {
+        rootTypes.add(type.getQualifiedName().toString());
+        rootCodecs.add(codecName(type));
+        for (TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+            collectRootTypes(nested);
+        }
+    }
+
+    private void consider(TypeMirror mirror) {
+        if (mirror.getKind() != TypeKind.DECLARED) {
+            return;
+        }
+
+        TypeElement type = (TypeElement) ((DeclaredType) mirror).asElement();
+        String name = type.getQualifiedName().toString();
+        if (!visited.add(name)) {
+            return;
+        }
+
+        // Only generate next to types compiled in this run, never into library packages
+        if (!rootTypes.contains(name)) {
+            return;
+        }
+
+        List<Property> properties = introspect(type);
+        if (properties == null) {
+            note("Skipping JSON codec for " + name + ", Jackson databind will be used");
+            return;
+        }
+
+        try {
+            generate(type, properties);
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Failed to generate JSON codec for " + name + ": " + ex.getMessage(), type);
+        }
+    }
+
+    /**
+     * Returns the JSON properties of the type, or null when it should be left to Jackson.
+     */
+    private List<Property> introspect(TypeElement type) {
+
+        if (!type.getModifiers().contains(Modifier.PUBLIC)
+                || type.getModifiers().contains(Modifier.ABSTRACT)
+                || !type.getTypeParameters().isEmpty()
+                || (type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC)
+                && type.getKind() != ElementKind.RECORD)
+                || (type.getNestingKind() != NestingKind.TOP_LEVEL && type.getNestingKind() != NestingKind.MEMBER)
+                || hasJacksonAnnotation(type)) {
+            return null;
+        }
+
+        if (type.getKind() == ElementKind.RECORD) {
+            return introspectRecord(type);
+        }
+        if (type.getKind() == ElementKind.CLASS) {
+            return introspectBean(type);
+        }
+        return null;
+    }
+
+    private List<Property> introspectRecord(TypeElement type) {
+        List<Property> properties = new ArrayList<>();
+
+        for (RecordComponentElement component : type.getRecordComponents()) {
+            if (hasJacksonAnnotation(component) || hasJacksonAnnotation(component.getAccessor())) {
+                return null;
+            }
+            Kind kind = kindOf(component.asType());
+            if (kind == null) {
+                return null;
+            }
+            String name = component.getSimpleName().toString();
+            properties.add(new Property(name, component.asType(), kind, name + "()", null));
+        }
+        return properties;
+    }
+
+    private List<Property> introspectBean(TypeElement type) {
+
+        // A public no-arg constructor is required (an implicit default constructor counts)
+        boolean hasNoArgConstructor = ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                .anyMatch(c -> c.getParameters().isEmpty() && c.getModifiers().contains(Modifier.PUBLIC));
+        if (!hasNoArgConstructor) {
+            return null;
+        }
+
+        Map<String, ExecutableElement> getters = new LinkedHashMap<>();
+        Map<String, ExecutableElement> setters = new HashMap<>();
+
+        for (Element member : processingEnv.getElementUtils().getAllMembers(type)) {
+
+            if (member.getModifiers().contains(Modifier.STATIC)
+                    || !member.getModifiers().contains(Modifier.PUBLIC)
+                    || member.getEnclosingElement().toString().equals("java.lang.Object")) {
+                continue;
+            }
+
+            if (hasJacksonAnnotation(member)) {
+                return null;
+            }
+
+            // Jackson also serializes public fields; leave such types to it
+            if (member.getKind() == ElementKind.FIELD) {
+                return null;
+            }
+
+            if (member.getKind() != ElementKind.METHOD) {
+                continue;
+            }
+
+            ExecutableElement method = (ExecutableElement) member;
+            String methodName = method.getSimpleName().toString();
+
+            if (method.getParameters().isEmpty() && method.getReturnType().getKind() != TypeKind.VOID) {
+                if (methodName.startsWith("get") && methodName.length() > 3) {
+                    getters.put(propertyName(methodName.substring(3)), method);
+                } else if (methodName.startsWith("is") && methodName.length() > 2
+                        && method.getReturnType().getKind() == TypeKind.BOOLEAN) {
+                    getters.put(propertyName(methodName.substring(2)), method);
+                }
+            } else if (method.getParameters().size() == 1 && methodName.startsWith("set") && methodName.length() > 3) {
+                setters.put(propertyName(methodName.substring(3)), method);
+            }
+        }
+
+        // Every property must be both readable and writable, otherwise Jackson's semantics differ
+        if (!getters.keySet().equals(setters.keySet())) {
+            return null;
+        }
+
+        List<Property> properties = new ArrayList<>();
+        for (Map.Entry<String, ExecutableElement> entry : getters.entrySet()) {
+            ExecutableElement getter = entry.getValue();
+            ExecutableElement setter = setters.get(entry.getKey());
+            TypeMirror propertyType = getter.getReturnType();
+
+            if (!processingEnv.getTypeUtils().isSameType(propertyType, setter.getParameters().getFirst().asType())) {
+                return null;
+            }
+
+            Kind kind = kindOf(propertyType);
+            if (kind == null) {
+                return null;
+            }
+            properties.add(new Property(entry.getKey(), propertyType, kind,
+                    getter.getSimpleName() + "()", setter.getSimpleName().toString()));
+        }
+        return properties;
+    }
+
+    /**
+     * Mirrors Jackson's default name mangling: lower-cases the leading run of upper-case characters.
+     */
+    private static String propertyName(String suffix) {
+        StringBuilder sb = new StringBuilder(suffix.length());
+        int i = 0;
+        while (i < suffix.length() && Character.isUpperCase(suffix.charAt(i))) {
+            sb.append(Character.toLowerCase(suffix.charAt(i)));
+            i++;
+        }
+        return sb.append(suffix, i, suffix.length()).toString();
+    }
+
+    private Kind kindOf(TypeMirror type) {
+        return switch (type.getKind()) {
+            case INT -> Kind.INT;
+            case LONG -> Kind.LONG;
+            case DOUBLE -> Kind.DOUBLE;
+            case BOOLEAN -> Kind.BOOLEAN;
+            case DECLARED -> switch (processingEnv.getTypeUtils().erasure(type).toString()) {
+                case "java.lang.String" -> Kind.STRING;
+                case "java.lang.Integer" -> Kind.INT_BOXED;
+                case "java.lang.Long" -> Kind.LONG_BOXED;
+                case "java.lang.Double" -> Kind.DOUBLE_BOXED;
+                case "java.lang.Boolean" -> Kind.BOOLEAN_BOXED;
+                default -> ((DeclaredType) type).getTypeArguments().isEmpty() ? Kind.OBJECT : Kind.GENERIC_OBJECT;
+            };
+            case ARRAY -> Kind.OBJECT;
+            default -> null;
+        };
+    }
+
+    private void generate(TypeElement type, List<Property> properties) throws IOException {
+
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String typeName = type.getQualifiedName().toString();
+        String qualifiedCodecName = codecName(type);
+        String codecName = packageName.isEmpty()
+                ? qualifiedCodecName
+                : qualifiedCodecName.substring(packageName.length() + 1);
+        boolean isRecord = type.getKind() == ElementKind.RECORD;
+
+        StringBuilder src = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            src.append("package ").append(packageName).append(";\n\n");
+        }
+        src.append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n");
+        src.append("public final class ").append(codecName)
+                .append(" implements ").append(CODEC_INTERFACE).append('<').append(typeName).append("> {\n\n");
+
+        // Pre-encoded field names avoid re-quoting on every write
+        for (int i = 0; i < properties.size(); i++) {
+            src.append("    private static final com.fasterxml.jackson.core.io.SerializedString F").append(i)
+                    .append(" = new com.fasterxml.jackson.core.io.SerializedString(\"")
+                    .append(properties.get(i).name()).append("\");\n");
+        }
+        for (int i = 0; i < properties.size(); i++) {
+            Property p = properties.get(i);
+            if (p.kind() == Kind.GENERIC_OBJECT) {
+                src.append("    private static final com.fasterxml.jackson.core.type.TypeReference<").append(p.type())
+                        .append("> T").append(i).append(" = new com.fasterxml.jackson.core.type.TypeReference<>() {};\n");
+            }
+        }
+
+        src.append("\n    @Override\n    public Class<").append(typeName).append("> type() {\n")
+                .append("        return ").append(typeName).append(".class;\n    }\n");
+
+        // --- write ---
+        src.append("\n    @Override\n    public void write(com.fasterxml.jackson.core.JsonGenerator g, ")
+                .append(typeName).append(" value) throws java.io.IOException {\n")
+                .append("        g.writeStartObject();\n");
+        for (int i = 0; i < properties.size(); i++) {
+            Property p = properties.get(i);
+            String access = "value." + p.accessor();
+            src.append("        g.writeFieldName(F").append(i).append(");\n        ");
+            switch (p.kind()) {
+                case INT, LONG, DOUBLE -> src.append("g.writeNumber(").append(access).append(");\n");
+                case BOOLEAN -> src.append("g.writeBoolean(").append(access).append(");\n");
+                case STRING -> src.append(SUPPORT).append(".writeString(g, ").append(access).append(");\n");
+                case INT_BOXED, LONG_BOXED, DOUBLE_BOXED ->
+                        src.append(SUPPORT).append(".writeNumber(g, ").append(access).append(");\n");
+                case BOOLEAN_BOXED -> src.append(SUPPORT).append(".writeBoolean(g, ").append(access).append(");\n");
+                case OBJECT, GENERIC_OBJECT -> src.append("g.writeObject(").append(access).append(");\n");
+            }
+        }
+        src.append("        g.writeEndObject();\n    }\n");
+
+        // --- read ---
+        src.append("\n    @Override\n    public ").append(typeName)
+                .append(" read(com.fasterxml.jackson.core.JsonParser p) throws java.io.IOException {\n")
+                .append("        if (!").append(SUPPORT).append(".beginObject(p, ").append(typeName).append(".class)) {\n")
+                .append("            return null;\n        }\n");
+
+        if (isRecord) {
+            for (int i = 0; i < properties.size(); i++) {
+                Property p = properties.get(i);
+                src.append("        ").append(p.type()).append(" v").append(i).append(" = ")
+                        .append(defaultValue(p.kind())).append(";\n");
+            }
+        } else {
+            src.append("        ").append(typeName).append(" target = new ").append(typeName).append("();\n");
+        }
+
+        src.append("        while (p.nextToken() == com.fasterxml.jackson.core.JsonToken.FIELD_NAME) {\n")
+                .append("            String field = p.currentName();\n")
+                .append("            p.nextToken();\n")
+                .append("            switch (field) {\n");
+        for (int i = 0; i < properties.size(); i++) {
+            Property p = properties.get(i);
+            String read = readExpression(p, i);
+            src.append("                case \"").append(p.name()).append("\" -> ");
+            if (isRecord) {
+                src.append('v').append(i).append(" = ").append(read).append(";\n");
+            } else {
+                src.append("target.").append(p.setter()).append('(').append(read).append(");\n");
+            }
+        }
+        src.append("                default -> throw ").append(SUPPORT).append(".unknownProperty(p, ")
+                .append(typeName).append(".class, field);\n")
+                .append("            }\n        }\n");
+
+        if (isRecord) {
+            src.append("        return new ").append(typeName).append('(');
+            for (int i = 0; i < properties.size(); i++) {
+                if (i > 0) src.append(", ");
+                src.append('v').append(i);
+            }
+            src.append(");\n");
+        } else {
+            src.append("        return target;\n");
+        }
+        src.append("    }\n}\n");
+
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedCodecName, type);
+        try (Writer writer = file.openWriter()) {
+            writer.write(src.toString());
+        }
+        generated.add(qualifiedCodecName);
+    }
+
+    private static String readExpression(Property p, int index) {
+        return switch (p.kind()) {
+            case STRING -> SUPPORT + ".readString(p)";
+            case INT -> SUPPORT + ".readInt(p)";
+            case INT_BOXED -> SUPPORT + ".readIntBoxed(p)";
+            case LONG -> SUPPORT + ".readLong(p)";
+            case LONG_BOXED -> SUPPORT + ".readLongBoxed(p)";
+            case DOUBLE -> SUPPORT + ".readDouble(p)";
+            case DOUBLE_BOXED -> SUPPORT + ".readDoubleBoxed(p)";
+            case BOOLEAN -> SUPPORT + ".readBoolean(p)";
+            case BOOLEAN_BOXED -> SUPPORT + ".readBooleanBoxed(p)";
+            case OBJECT -> "p.readValueAs(" + p.type() + ".class)";
+            case GENERIC_OBJECT -> "p.readValueAs(T" + index + ")";
+        };
+    }
+
+    private static String defaultValue(Kind kind) {
+        return switch (kind) {
+            case INT, LONG, DOUBLE -> "0";
+            case BOOLEAN -> "false";
+            default -> "null";
+        };
+    }
+
+    private String codecName(TypeElement type) {
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String typeName = type.getQualifiedName().toString();
+        String binaryTail = packageName.isEmpty() ? typeName : typeName.substring(packageName.length() + 1);
+        String codecName = binaryTail.replace('.', '_') + "_JsonCodec";
+        return packageName.isEmpty() ? codecName : packageName + "." + codecName;
+    }
+
+    private void writeServiceFile() {
+        readPreviousServiceFile();
+        if (generated.isEmpty()) {
+            return;
+        }
+
+        try {
+            FileObject file = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer writer = file.openWriter()) {
+                for (String codec : generated) {
+                    writer.write(codec);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Failed to write " + SERVICE_FILE + ": " + ex.getMessage());
+        }
+    }
+
+    // Keeps codecs of types that were not recompiled and still exist
+    private void readPreviousServiceFile() {
+        FileObject previous;
+        try {
+            previous = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+        } catch (IOException | IllegalArgumentException ex) {
+            return;
+        }
+
+        try (Reader reader = previous.openReader(true);
+             BufferedReader lines = new BufferedReader(reader)) {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                String codec = line.trim();
+                if (codec.isEmpty()
+                        || rootCodecs.contains(codec)
+                        || processingEnv.getElementUtils().getTypeElement(codec) == null) {
+                    continue;
+                }
+                generated.add(codec);
+            }
+        } catch (IOException ex) {
+            // No previous service file: full build
+        }
+    }
+
+    private static boolean hasAnnotation(Element element, String annotation) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (mirror.getAnnotationType().asElement().toString().equals(annotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasJacksonAnnotation(Element element) {
+        if (element == null) {
+            return false;
+        }
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (mirror.getAnnotationType().asElement().toString().startsWith(JACKSON_ANNOTATION_PACKAGE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void note(String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, message);
+    }
+
+    private enum Kind {
+        STRING, INT, INT_BOXED, LONG, LONG_BOXED, DOUBLE, DOUBLE_BOXED, BOOLEAN, BOOLEAN_BOXED, OBJECT, GENERIC_OBJECT
+    }
+
+    private record Property(String name, TypeMirror type, Kind kind, String accessor, String setter) {
+    }
+}
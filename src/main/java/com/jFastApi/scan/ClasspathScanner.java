@@ -0,0 +1,200 @@
+package com.jFastApi.scan;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Objects;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * Finds the classes of a package that carry one of a set of annotations, in directories and jars.
+ * <p>
+ * Class files are read in parallel and their constant pool is checked for the annotation
+ * descriptors before anything is loaded: a class annotated with {@code @Bean} must contain
+ * the string {@code Lcom/jFastApi/annotation/Bean;}. Only matching classes are loaded,
+ * without being initialized.
+ */
+final class ClasspathScanner {
+
+    private ClasspathScanner() {
+    }
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClasspathScanner.class);
+
+    private static final int CLASS_MAGIC = 0xCAFEBABE;
+
+    /**
+     * @param basePackage package to scan, including sub-packages
+     * @param annotations annotation types to look for
+     * @return the matching classes, ordered by name
+     */
+    static List<Class<?>> scan(String basePackage, Collection<String> annotations, ClassLoader classLoader) {
+        byte[][] descriptors = annotations.stream()
+                .map(name -> ("L" + name.replace('.', '/') + ";").getBytes(StandardCharsets.UTF_8))
+                .toArray(byte[][]::new);
+
+        List<ClassResource> resources = new ArrayList<>();
+        try {
+            String path = basePackage.replace('.', '/');
+            Enumeration<URL> urls = classLoader.getResources(path);
+            while (urls.hasMoreElements()) {
+                collect(urls.nextElement(), path, resources);
+            }
+        } catch (IOException ex) {
+            LOGGER.error("Failed to list classes of package {}, error {}", basePackage, ex.getMessage());
+        }
+
+        try {
+            return resources.parallelStream()
+                    .filter(resource -> references(resource, descriptors))
+                    .<Class<?>>map(resource -> load(resource.className(), classLoader))
+                    .filter(Objects::nonNull)
+                    .sorted((a, b) -> a.getName().compareTo(b.getName()))
+                    .toList();
+        } finally {
+            resources.stream().map(ClassResource::jar).filter(Objects::nonNull).distinct().forEach(jar -> {
+                try {
+                    jar.close();
+                } catch (IOException ignored) {
+                }
+            });
+        }
+    }
+
+    private static void collect(URL url, String path, List<ClassResource> resources) throws IOException {
+        switch (url.getProtocol()) {
+            case "file" -> {
+                Path root;
+                try {
+                    root = Path.of(url.toURI());
+                } catch (URISyntaxException ex) {
+                    throw new IOException(ex);
+                }
+                // Base directory of the class path entry, so relative paths are class names
+                Path classPathRoot = root;
+                for (int i = path.split("/").length; i > 0; i--) {
+                    classPathRoot = classPathRoot.getParent();
+                }
+                Path base = classPathRoot;
+                try (Stream<Path> files = Files.walk(root)) {
+                    files.filter(file -> isClassFile(file.getFileName().toString()))
+                            .forEach(file -> resources.add(new ClassResource(
+                                    toClassName(base.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/")),
+                                    file, null, null)));
+                }
+            }
+            case "jar" -> {
+                JarURLConnection connection = (JarURLConnection) url.openConnection();
+                connection.setUseCaches(false);
+                JarFile jar = connection.getJarFile();
+                String prefix = path + "/";
+                Enumeration<JarEntry> entries = jar.entries();
+                while (entries.hasMoreElements()) {
+                    JarEntry entry = entries.nextElement();
+                    if (entry.getName().startsWith(prefix) && isClassFile(entry.getName())) {
+                        resources.add(new ClassResource(toClassName(entry.getName()), null, jar, entry));
+                    }
+                }
+            }
+            default -> LOGGER.warn("Cannot scan {} class path entries: {}", url.getProtocol(), url);
+        }
+    }
+
+    private static boolean isClassFile(String name) {
+        return name.endsWith(".class") && !name.endsWith("module-info.class") && !name.endsWith("package-info.class");
+    }
+
+    private static String toClassName(String relativePath) {
+        return relativePath.substring(0, relativePath.length() - ".class".length()).replace('/', '.');
+    }
+
+    private static boolean references(ClassResource resource, byte[][] descriptors) {
+        try (InputStream in = resource.open()) {
+            return constantPoolContains(new DataInputStream(new BufferedInputStream(in, 8192)), descriptors);
+        } catch (IOException ex) {
+            LOGGER.warn("Failed to read {}, error {}", resource.className(), ex.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Reads the constant pool (JVMS 4.4) and returns true if a UTF-8 entry equals one of the descriptors.
+     */
+    static boolean constantPoolContains(DataInputStream in, byte[][] descriptors) throws IOException {
+        if (in.readInt() != CLASS_MAGIC) {
+            return false;
+        }
+        in.skipNBytes(4); // minor and major version
+
+        int count = in.readUnsignedShort();
+        for (int i = 1; i < count; i++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1 -> { // Utf8
+                    int length = in.readUnsignedShort();
+                    if (matchesAny(length, descriptors)) {
+                        byte[] value = in.readNBytes(length);
+                        for (byte[] descriptor : descriptors) {
+                            if (Arrays.equals(value, descriptor)) {
+                                return true;
+                            }
+                        }
+                    } else {
+                        in.skipNBytes(length);
+                    }
+                }
+                case 7, 8, 16, 19, 20 -> in.skipNBytes(2); // Class, String, MethodType, Module, Package
+                case 15 -> in.skipNBytes(3); // MethodHandle
+                case 3, 4, 9, 10, 11, 12, 17, 18 -> in.skipNBytes(4);
+                case 5, 6 -> { // Long and Double take two slots
+                    in.skipNBytes(8);
+                    i++;
+                }
+                default -> throw new IOException("Unknown constant pool tag " + tag);
+            }
+        }
+        return false;
+    }
+
+    private static boolean matchesAny(int length, byte[][] descriptors) {
+        for (byte[] descriptor : descriptors) {
+            if (descriptor.length == length) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Class<?> load(String className, ClassLoader classLoader) {
+        try {
+            return Class.forName(className, false, classLoader);
+        } catch (ClassNotFoundException | LinkageError ex) {
+            LOGGER.error("Failed to load class {}, error {}", className, ex.getMessage());
+            return null;
+        }
+    }
+
+    private record ClassResource(String className, Path file, JarFile jar, JarEntry entry) {
+
+        private InputStream open() throws IOException {
+            return file != null ? Files.newInputStream(file) : jar.getInputStream(entry);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.jFastApi.scan;
+
+import com.jFastApi.annotation.Bean;
+import com.jFastApi.annotation.ExceptionHandler;
+import com.jFastApi.annotation.HttpRoute;
+import com.jFastApi.annotation.InterceptorBean;
+import com.jFastApi.annotation.SystemInterceptorBean;
+import com.jFastApi.exception.ApplicationException;
+import jakarta.persistence.Entity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Discovers the framework's components once per package and shares the result with every
+ * startup scanner ({@code BeanFactory}, {@code RouteScanner}, {@code InterceptorScanner},
+ * {@code ExceptionHandlerRegistry}, {@code PrimaryDataSourceConfig}).
+ * <p>
+ * Classes are taken from the {@code META-INF/jfastapi/components.idx} files written at compile
+ * time by {@code ComponentIndexProcessor} (the framework jar and the application each
+ * contribute one). A package without any index entry, e.g. compiled without the processor,
+ * is scanned instead by {@link ClasspathScanner}, in directories and jars. Either way only
+ * candidate classes are loaded, in parallel and without initializing them.
+ */
+public final class ComponentIndex {
+
+    private ComponentIndex() {
+    }
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ComponentIndex.class);
+
+    public static final String LOCATION = "META-INF/jfastapi/components.idx";
+
+    /**
+     * Annotations the index records and the scanners can be queried for.
+     */
+    public static final List<Class<? extends Annotation>> ANNOTATIONS = List.of(
+            Bean.class, InterceptorBean.class, SystemInterceptorBean.class,
+            HttpRoute.class, ExceptionHandler.class, Entity.class);
+
+    // annotation name -> binary class names, from all index files
+    private static Map<String, Set<String>> index;
+
+    // base package -> discovered components
+    private static final Map<String, Components> components = new ConcurrentHashMap<>();
+
+    /**
+     * Discovers the given packages concurrently. Optional: queries discover on first use.
+     */
+    public static void load(String... basePackages) {
+        // Worker threads may have another context class loader
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        Arrays.stream(basePackages).parallel().forEach(basePackage -> of(basePackage, classLoader));
+    }
+
+    /**
+     * Returns the classes of the package carrying the annotation.
+     */
+    public static List<Class<?>> findAnnotatedClasses(String basePackage, Class<? extends Annotation> annotation) {
+        List<Class<?>> classes = of(basePackage, Thread.currentThread().getContextClassLoader()).getAnnotatedClasses(annotation);
+        if (classes == null) {
+            throw new ApplicationException(notIndexed(annotation));
+        }
+        return classes;
+    }
+
+    /**
+     * Returns the methods carrying the annotation, declared by classes of the package.
+     */
+    public static List<Method> findAnnotatedMethods(String basePackage, Class<? extends Annotation> annotation) {
+        List<Method> methods = of(basePackage, Thread.currentThread().getContextClassLoader()).getAnnotatedMethods(annotation);
+        if (methods == null) {
+            throw new ApplicationException(notIndexed(annotation));
+        }
+        return methods;
+    }
+
+    /**
+     * Returns every component class of the package, whatever its annotation.
+     */
+    public static List<Class<?>> getClasses(String basePackage) {
+        return of(basePackage, Thread.currentThread().getContextClassLoader()).getClasses();
+    }
+
+    /**
+     * @return true if the compile-time index has at least one entry in the package
+     */
+    public static boolean isIndexed(String basePackage) {
+        return index(Thread.currentThread().getContextClassLoader()).values().stream()
+                .anyMatch(classNames -> classNames.stream().anyMatch(name -> inPackage(name, basePackage)));
+    }
+
+    private static Components of(String basePackage, ClassLoader classLoader) {
+        return components.computeIfAbsent(basePackage, k -> discover(basePackage, classLoader));
+    }
+
+    private static Components discover(String basePackage, ClassLoader classLoader) {
+        long start = System.nanoTime();
+
+        Set<String> classNames = new TreeSet<>();
+        index(classLoader).values().forEach(names -> names.stream()
+                .filter(name -> inPackage(name, basePackage))
+                .forEach(classNames::add));
+
+        boolean indexed = !classNames.isEmpty();
+        List<Class<?>> classes;
+        if (indexed) {
+            classes = classNames.parallelStream()
+                    .<Class<?>>map(className -> load(className, classLoader))
+                    .filter(Objects::nonNull)
+                    .toList();
+        } else {
+            classes = ClasspathScanner.scan(basePackage,
+                    ANNOTATIONS.stream().map(Class::getName).toList(), classLoader);
+        }
+
+        Components discovered = Components.of(classes, ANNOTATIONS);
+        LOGGER.info("Found {} components in {} using the {} in {} ms", classes.size(), basePackage,
+                indexed ? "component index" : "classpath scan", (System.nanoTime() - start) / 1_000_000);
+        return discovered;
+    }
+
+    private static synchronized Map<String, Set<String>> index(ClassLoader classLoader) {
+        if (index == null) {
+            index = read(classLoader);
+        }
+        return index;
+    }
+
+    private static Map<String, Set<String>> read(ClassLoader classLoader) {
+        Map<String, Set<String>> entries = new HashMap<>();
+        try {
+            Enumeration<URL> resources = classLoader.getResources(LOCATION);
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                try (BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        int space = line.indexOf(' ');
+                        if (space > 0) {
+                            entries.computeIfAbsent(line.substring(0, space), k -> new TreeSet<>())
+                                    .add(line.substring(space + 1).trim());
+                        }
+                    }
+                }
+            }
+        } catch (IOException ex) {
+            LOGGER.error("Failed to read component index, error {}", ex.getMessage());
+        }
+        return entries;
+    }
+
+    private static boolean inPackage(String className, String basePackage) {
+        return className.startsWith(basePackage) && className.length() > basePackage.length()
+                && className.charAt(basePackage.length()) == '.';
+    }
+
+    private static Class<?> load(String className, ClassLoader classLoader) {
+        try {
+            // Not initialized here: only classes that actually become beans run their static initializers
+            return Class.forName(className, false, classLoader);
+        } catch (ClassNotFoundException | LinkageError ex) {
+            LOGGER.error("Indexed class {} could not be loaded, error {}", className, ex.getMessage());
+            return null;
+        }
+    }
+
+    private static String notIndexed(Class<? extends Annotation> annotation) {
+        return "@" + annotation.getSimpleName() + " is not a component annotation";
+    }
+}
@@ -0,0 +1,74 @@
+package com.jFastApi.scan;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable result of discovering one package: the candidate classes and, per annotation,
+ * the classes and methods carrying it. Built once and shared by every startup scanner.
+ */
+final class Components {
+
+    private final List<Class<?>> classes;
+    private final Map<Class<? extends Annotation>, List<Class<?>>> annotatedClasses;
+    private final Map<Class<? extends Annotation>, List<Method>> annotatedMethods;
+
+    private Components(List<Class<?>> classes,
+                       Map<Class<? extends Annotation>, List<Class<?>>> annotatedClasses,
+                       Map<Class<? extends Annotation>, List<Method>> annotatedMethods) {
+        this.classes = classes;
+        this.annotatedClasses = annotatedClasses;
+        this.annotatedMethods = annotatedMethods;
+    }
+
+    static Components of(List<Class<?>> classes, Collection<Class<? extends Annotation>> annotations) {
+        Map<Class<? extends Annotation>, List<Class<?>>> annotatedClasses = new HashMap<>();
+        Map<Class<? extends Annotation>, List<Method>> annotatedMethods = new HashMap<>();
+        for (Class<? extends Annotation> annotation : annotations) {
+            annotatedClasses.put(annotation, new ArrayList<>());
+            annotatedMethods.put(annotation, new ArrayList<>());
+        }
+
+        for (Class<?> clazz : classes) {
+            for (Class<? extends Annotation> annotation : annotations) {
+                if (clazz.isAnnotationPresent(annotation)) {
+                    annotatedClasses.get(annotation).add(clazz);
+                }
+            }
+            for (Method method : clazz.getDeclaredMethods()) {
+                for (Class<? extends Annotation> annotation : annotations) {
+                    if (method.isAnnotationPresent(annotation)) {
+                        annotatedMethods.get(annotation).add(method);
+                    }
+                }
+            }
+        }
+
+        annotatedClasses.replaceAll((annotation, list) -> List.copyOf(list));
+        annotatedMethods.replaceAll((annotation, list) -> List.copyOf(list));
+        return new Components(List.copyOf(classes), Map.copyOf(annotatedClasses), Map.copyOf(annotatedMethods));
+    }
+
+    List<Class<?>> getClasses() {
+        return classes;
+    }
+
+    /**
+     * @return the classes carrying the annotation, or null if it was not looked for
+     */
+    List<Class<?>> getAnnotatedClasses(Class<? extends Annotation> annotation) {
+        return annotatedClasses.get(annotation);
+    }
+
+    /**
+     * @return the methods carrying the annotation, or null if it was not looked for
+     */
+    List<Method> getAnnotatedMethods(Class<? extends Annotation> annotation) {
+        return annotatedMethods.get(annotation);
+    }
+}
@@ -1,41 +1,189 @@
 package com.jFastApi.security;
 
 import com.jFastApi.annotation.Bean;
-import io.github.resilience4j.ratelimiter.RateLimiter;
-import io.github.resilience4j.ratelimiter.RateLimiterConfig;
-import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
-import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import com.jFastApi.util.PropertiesUtil;
 
-import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * Per-client rate limiter, one token bucket per route and client (IP or username).
+ * <p>
+ * Buckets use the generic cell rate algorithm: a bucket is a single {@link AtomicLong} holding
+ * its theoretical arrival time (TAT), the time at which it will be full again. A request is
+ * allowed if the TAT, pushed back by one emission interval ({@code period / limit}), stays within
+ * one period from now, and is then recorded with a single compare-and-set. There is no lock and no
+ * refill task.
+ * <p>
+ * A bucket whose TAT has passed is full, so dropping it loses nothing: such idle buckets are
+ * evicted every {@code app.security.api.rate_limiter.eviction_interval_ms}, and memory only grows
+ * with the clients seen during the last period.
+ * <p>
+ * In cluster mode ({@link RateLimitCluster}), each bucket refills at its node's share of the
+ * route's limit, which the gossip thread adjusts every sync interval. Requests are still decided
+ * locally.
+ */
 @Bean
 public class ApiRateLimiter {
 
-    private final RateLimiterRegistry rateLimiterRegistry;
+    // Marks a bucket being evicted: callers that still hold it retry with a new one
+    private static final long EVICTED = Long.MIN_VALUE;
+
+    // Demand below this (requests per second) counts as none
+    private static final double MIN_DEMAND = 0.01;
+
+    private final Map<Key, Bucket> buckets = new ConcurrentHashMap<>();
+    private final long evictionIntervalNanos;
+    private final AtomicLong nextEvictionNanos = new AtomicLong(System.nanoTime());
+
+    // Null unless cluster mode is enabled
+    private final RateLimitCluster cluster;
+    private long lastRebalanceNanos = System.nanoTime();
 
     public ApiRateLimiter() {
-        this.rateLimiterRegistry = RateLimiterRegistry.ofDefaults();
+        this(TimeUnit.MILLISECONDS.toNanos(
+                PropertiesUtil.getPropertyLong(PropertiesUtil.SECURITY_RATE_LIMIT_EVICTION_INTERVAL_MS, 10000L)),
+                RateLimitCluster.fromProperties());
     }
 
-    public boolean canLoad(String uniqueKey, int callNumber, Duration timeoutDuration) {
+    ApiRateLimiter(long evictionIntervalNanos, RateLimitCluster cluster) {
+        this.evictionIntervalNanos = evictionIntervalNanos;
+        this.cluster = cluster;
+        if (cluster != null) {
+            cluster.start(this::rebalance);
+        }
+    }
+
+    /**
+     * Takes a permit from the client's bucket for the route.
+     *
+     * @param policy    the route's rate limit
+     * @param principal the client: its IP, or its username once authenticated
+     */
+    public RateLimitDecision acquire(RateLimitPolicy policy, String principal) {
+        long now = System.nanoTime();
+        evictIdle(now);
+
+        long period = policy.getPeriodNanos();
+        Key key = new Key(policy, principal);
+        boolean counted = false;
 
-        if (!SecurityContext.isRateLimitEnabled()) {
-            return true;
+        while (true) {
+            Bucket bucket = buckets.computeIfAbsent(key, this::newBucket);
+            long tat = bucket.get();
+            if (tat == EVICTED) {
+                buckets.remove(key, bucket);
+                continue;
+            }
+
+            long interval = policy.getEmissionIntervalNanos();
+            if (bucket.clusterKey != null) {
+                if (!counted) {
+                    bucket.requests.increment();
+                    counted = true;
+                }
+                // This node's share of the limit: the bucket refills more slowly
+                interval = (long) (period / (policy.getLimit() * bucket.share));
+            }
+
+            // A bucket that refilled completely starts from now
+            long newTat = (tat - now < 0 ? now : tat) + interval;
+            long backlog = newTat - now;
+            if (backlog > period) {
+                long reset = Math.max(0, tat - now);
+                return new RateLimitDecision(policy, false, 0, reset, backlog - period);
+            }
+            if (bucket.compareAndSet(tat, newTat)) {
+                int remaining = (int) ((period - backlog) / interval);
+                return new RateLimitDecision(policy, true, remaining, backlog, 0);
+            }
         }
+    }
+
+    private Bucket newBucket(Key key) {
+        if (cluster == null) {
+            return new Bucket(System.nanoTime(), null);
+        }
+        RateLimitCluster.Key clusterKey = new RateLimitCluster.Key(key.policy().getName(), key.principal());
+        Bucket bucket = new Bucket(System.nanoTime(), clusterKey);
+        bucket.share = cluster.shareOf(clusterKey, 0);
+        return bucket;
+    }
+
+    /**
+     * Runs on the gossip thread once per sync interval: updates each bucket's demand and share,
+     * and returns the demand to announce to the peers.
+     */
+    private Map<RateLimitCluster.Key, Double> rebalance() {
+        long now = System.nanoTime();
+        double elapsedSeconds = Math.max(1, now - lastRebalanceNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+        lastRebalanceNanos = now;
+
+        Map<RateLimitCluster.Key, Double> demand = new HashMap<>();
+        for (Bucket bucket : buckets.values()) {
+            // Smoothed requests per second, including rejected ones
+            double rate = bucket.demand / 2 + bucket.requests.sumThenReset() / elapsedSeconds / 2;
+            bucket.demand = rate < MIN_DEMAND ? 0 : rate;
+            bucket.share = cluster.shareOf(bucket.clusterKey, bucket.demand);
+            if (bucket.demand > 0) {
+                demand.put(bucket.clusterKey, bucket.demand);
+            }
+        }
+        return demand;
+    }
+
+    /**
+     * @return the cluster this limiter shares its limits with, or null
+     */
+    public RateLimitCluster getCluster() {
+        return cluster;
+    }
+
+    /**
+     * @return buckets currently held, one per active route and client
+     */
+    public int size() {
+        return buckets.size();
+    }
+
+    private void evictIdle(long now) {
+        long next = nextEvictionNanos.get();
+        if (now - next < 0 || !nextEvictionNanos.compareAndSet(next, now + evictionIntervalNanos)) {
+            return;
+        }
+
+        buckets.forEach((key, bucket) -> {
+            long tat = bucket.get();
+            // In cluster mode, a bucket also keeps the client's demand until it decays
+            boolean idle = bucket.clusterKey == null || (bucket.demand == 0 && bucket.requests.sum() == 0);
+            if (tat != EVICTED && tat - now <= 0 && idle && bucket.compareAndSet(tat, EVICTED)) {
+                buckets.remove(key, bucket);
+            }
+        });
+    }
+
+    // The policy compares by identity: one per route
+    private record Key(RateLimitPolicy policy, String principal) {
+    }
 
-        // Refresh period should match the timeout because after the timeoutDuration ends we want it to refresh.
-        RateLimiterConfig config = RateLimiterConfig.custom()
-                .limitForPeriod(callNumber)
-                .limitRefreshPeriod(timeoutDuration)
-                .timeoutDuration(Duration.ofMillis(1))
-                .build();
+    /**
+     * Holds the theoretical arrival time. Cluster buckets also count requests for the gossip.
+     */
+    private static final class Bucket extends AtomicLong {
 
-        try {
-            RateLimiter rateLimiter = rateLimiterRegistry.rateLimiter(uniqueKey, config);
-            return rateLimiter.acquirePermission();
+        private final RateLimitCluster.Key clusterKey;
+        private final LongAdder requests;
+        private volatile double share = 1;
+        private volatile double demand;
 
-        } catch (RequestNotPermitted exception) {
-            return false;
+        private Bucket(long tat, RateLimitCluster.Key clusterKey) {
+            super(tat);
+            this.clusterKey = clusterKey;
+            this.requests = clusterKey == null ? null : new LongAdder();
         }
     }
-}
\ No newline at end of file
+}
@@ -3,15 +3,16 @@ package com.jFastApi.security;
 import com.jFastApi.annotation.SystemInterceptorBean;
 import com.jFastApi.exception.ForbiddenException;
 import com.jFastApi.exception.TooManyRequestException;
+import com.jFastApi.exception.UsernameNotFoundException;
 import com.jFastApi.http.Route;
 import com.jFastApi.http.interceptor.Interceptor;
+import com.jFastApi.metrics.ServerTiming;
 import com.jFastApi.util.JwtHelper;
 import com.jFastApi.util.RequestUtility;
 import com.jFastApi.util.StringUtility;
-import com.jFastApi.util.TimeUtility;
 import com.sun.net.httpserver.HttpExchange;
+import io.jsonwebtoken.Claims;
 
-import java.time.Duration;
 import java.util.Collection;
 
 @SystemInterceptorBean(order = 2)
@@ -22,7 +23,8 @@ public class AuthorizationInterceptor implements Interceptor {
     private final ApiRateLimiter rateLimiter;
 
     public AuthorizationInterceptor(AuthUserService authUserService, JwtHelper jwtHelper, ApiRateLimiter rateLimiter) {
-        this.authUserService = authUserService;
+        // Not consulted per request in stateless mode
+        this.authUserService = SecurityContext.isStateless() ? authUserService : SecurityContext.cacheUsers(authUserService);
         this.jwtHelper = jwtHelper;
         this.rateLimiter = rateLimiter;
     }
@@ -41,17 +43,12 @@ public class AuthorizationInterceptor implements Interceptor {
     public boolean preHandle(HttpExchange exchange, Route route) {
 
         String path = exchange.getRequestURI().getPath();
-        Duration duration = TimeUtility.toDuration(route.time(), route.timeUnit());
 
         // Allow unauthenticated access to login endpoint,
         // or if security is globally disabled,
         // or if the route is not marked as secured
         if ("/login".equals(path) || !SecurityContext.isEnabled() || !route.authorized()) {
-            String ip = RequestUtility.getClientIp(exchange);
-            if (!rateLimiter.canLoad(ip, route.limit(), duration) && !route.disableRateLimiter()) {
-                throw new TooManyRequestException("Too Many request!");
-            }
-
+            limitRate(exchange, route, RequestUtility.getClientIp(exchange));
             return true;
         }
 
@@ -61,20 +58,40 @@ public class AuthorizationInterceptor implements Interceptor {
             throw new AuthenticationException("Unauthorized");
         }
 
-        // Extract token and validate user identity
-        String token = authorization.substring(7);
-        String username = jwtHelper.extractUsername(token);
-
-        AuthUser user = authUserService.loadUserByUsername(username);
+        // Verify the token once (signature and expiration, or a cache hit) and validate user identity
+        String username;
+        AuthUser user;
+        long phaseStart = ServerTiming.start();
+        try {
+            String token = authorization.substring(7);
+            Claims claims = jwtHelper.verify(token);
+            username = claims.getSubject();
+            // Refresh tokens are only accepted by /refresh
+            if (StringUtility.isEmpty(username) || JwtHelper.REFRESH_TOKEN.equals(claims.get(JwtHelper.TOKEN_TYPE_CLAIM))) {
+                throw new AuthenticationException("Unauthorized");
+            }
 
-        // Reject invalid or expired token
-        if (!jwtHelper.isValidToken(token, user.getUsername())) {
-            throw new AuthenticationException("Unauthorized");
+            if (SecurityContext.isStateless()) {
+                // Identity and roles as of login: no I/O
+                user = ClaimsAuthUser.from(claims);
+            } else {
+                try {
+                    user = authUserService.loadUserByUsername(username);
+                } catch (UsernameNotFoundException ex) {
+                    // A valid token of a user that no longer exists
+                    throw new AuthenticationException("Unauthorized");
+                }
+
+                // Reject a token issued for another user
+                if (!username.equalsIgnoreCase(user.getUsername())) {
+                    throw new AuthenticationException("Unauthorized");
+                }
+            }
+        } finally {
+            ServerTiming.stop(ServerTiming.Phase.AUTH, phaseStart);
         }
 
-        if (!rateLimiter.canLoad(username, route.limit(), duration) && !route.disableRateLimiter()) {
-            throw new TooManyRequestException("Too Many request!");
-        }
+        limitRate(exchange, route, username);
 
         if (route.authorities().isEmpty()) {
             SecurityContext.setCurrentUser(user);
@@ -94,6 +111,23 @@ public class AuthorizationInterceptor implements Interceptor {
         return true;
     }
 
+    /**
+     * Takes a permit for the client on this route and sends the RateLimit-* headers.
+     *
+     * @throws TooManyRequestException if the client exceeded the route's limit
+     */
+    private void limitRate(HttpExchange exchange, Route route, String principal) {
+        if (route.rateLimit() == null || !SecurityContext.isRateLimitEnabled()) {
+            return;
+        }
+
+        RateLimitDecision decision = rateLimiter.acquire(route.rateLimit(), principal);
+        decision.writeHeaders(exchange.getResponseHeaders());
+        if (!decision.allowed()) {
+            throw new TooManyRequestException("Too Many request!", decision.retryAfterSeconds());
+        }
+    }
+
     @Override
     public Object postHandle(HttpExchange exchange, Route route, Object result) {
         return result;
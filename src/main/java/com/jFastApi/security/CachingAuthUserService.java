@@ -0,0 +1,170 @@
+package com.jFastApi.security;
+
+import com.jFastApi.exception.ApplicationException;
+import com.jFastApi.exception.UsernameNotFoundException;
+import com.jFastApi.util.PropertiesUtil;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caching decorator for the application's {@link AuthUserService}, used by the authorization path.
+ * <p>
+ * Users are cached for {@code ttl}; unknown usernames are cached too (negative caching), for
+ * {@code negativeTtl}. Concurrent misses for the same username share a single load. When the
+ * cache holds {@code maxEntries} users, expired entries are dropped (at most once per second);
+ * if none has expired, users are loaded without being cached.
+ * <p>
+ * Call {@link #invalidate(String)} (or {@link SecurityContext#invalidateUser(String)}) when a
+ * user's roles or password change. Login does not go through the cache.
+ */
+public final class CachingAuthUserService implements AuthUserService {
+
+    private static final long PURGE_INTERVAL_NANOS = Duration.ofSeconds(1).toNanos();
+
+    private final AuthUserService delegate;
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+    private final int maxEntries;
+
+    private final Map<String, CompletableFuture<Entry>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong nextPurgeNanos = new AtomicLong(System.nanoTime());
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public CachingAuthUserService(AuthUserService delegate, Duration ttl, Duration negativeTtl, int maxEntries) {
+        if (delegate == null) {
+            throw new ApplicationException("AuthUserService to cache cannot be null");
+        }
+        this.delegate = delegate;
+        this.ttlNanos = ttl.toNanos();
+        this.negativeTtlNanos = negativeTtl.toNanos();
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Creates the cache configured by the {@code app.security.user_cache.*} properties.
+     */
+    public static CachingAuthUserService fromProperties(AuthUserService delegate) {
+        return new CachingAuthUserService(delegate,
+                Duration.ofMillis(PropertiesUtil.getPropertyLong(PropertiesUtil.SECURITY_USER_CACHE_TTL_MS, 60000L)),
+                Duration.ofMillis(PropertiesUtil.getPropertyLong(PropertiesUtil.SECURITY_USER_CACHE_NEGATIVE_TTL_MS, 5000L)),
+                PropertiesUtil.getPropertyInteger(PropertiesUtil.SECURITY_USER_CACHE_SIZE, 10000));
+    }
+
+    @Override
+    public AuthUser loadUserByUsername(String username) throws UsernameNotFoundException {
+        while (true) {
+            CompletableFuture<Entry> cached = entries.get(username);
+
+            if (cached == null) {
+                if (entries.size() >= maxEntries && !purgeExpired()) {
+                    misses.increment();
+                    return delegate.loadUserByUsername(username);
+                }
+
+                CompletableFuture<Entry> loading = new CompletableFuture<>();
+                cached = entries.putIfAbsent(username, loading);
+                if (cached == null) {
+                    misses.increment();
+                    return load(username, loading).get();
+                }
+            }
+
+            Entry entry;
+            try {
+                entry = cached.join();
+            } catch (CompletionException ex) {
+                // The shared load failed (not an unknown user); it was not cached
+                if (ex.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw ex;
+            }
+
+            if (System.nanoTime() - entry.expiresAtNanos() >= 0) {
+                entries.remove(username, cached);
+                continue;
+            }
+            hits.increment();
+            return entry.get();
+        }
+    }
+
+    private Entry load(String username, CompletableFuture<Entry> loading) {
+        Entry entry;
+        try {
+            AuthUser user = delegate.loadUserByUsername(username);
+            entry = new Entry(user, null, System.nanoTime() + ttlNanos);
+        } catch (UsernameNotFoundException ex) {
+            entry = new Entry(null, ex.getMessage(), System.nanoTime() + negativeTtlNanos);
+        } catch (RuntimeException | Error ex) {
+            entries.remove(username, loading);
+            loading.completeExceptionally(ex);
+            throw ex;
+        }
+        loading.complete(entry);
+        return entry;
+    }
+
+    /**
+     * @return true if room was made
+     */
+    private boolean purgeExpired() {
+        long now = System.nanoTime();
+        long next = nextPurgeNanos.get();
+        if (now - next >= 0 && nextPurgeNanos.compareAndSet(next, now + PURGE_INTERVAL_NANOS)) {
+            entries.values().removeIf(future -> future.isDone() && !future.isCompletedExceptionally()
+                    && now - future.join().expiresAtNanos() >= 0);
+        }
+        return entries.size() < maxEntries;
+    }
+
+    /**
+     * Drops the cached user, e.g. after its roles or password changed. The next request reloads it.
+     */
+    public void invalidate(String username) {
+        entries.remove(username);
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return hits divided by lookups, or 0 before the first lookup
+     */
+    public double getHitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private record Entry(AuthUser user, String notFoundMessage, long expiresAtNanos) {
+
+        AuthUser get() {
+            if (user == null) {
+                throw new UsernameNotFoundException(notFoundMessage);
+            }
+            return user;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.jFastApi.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The user of a request in stateless mode ({@code app.security.stateless=true}), built only
+ * from the claims of its verified token: the subject and the {@code authority} claim written at
+ * login. It has no password.
+ */
+public final class ClaimsAuthUser implements AuthUser {
+
+    /**
+     * Claim holding the roles, as written by {@code AuthenticationController}.
+     */
+    public static final String AUTHORITY_CLAIM = "authority";
+
+    private final String username;
+    private final List<String> roles;
+
+    public ClaimsAuthUser(String username, Collection<String> roles) {
+        this.username = username;
+        this.roles = List.copyOf(roles);
+    }
+
+    /**
+     * Reads the user from verified claims. The roles may be a JSON array or a single string.
+     */
+    public static ClaimsAuthUser from(Claims claims) {
+        Object authority = claims.get(AUTHORITY_CLAIM);
+
+        List<String> roles = new ArrayList<>();
+        if (authority instanceof Collection<?> values) {
+            for (Object value : values) {
+                if (value != null) {
+                    roles.add(value.toString());
+                }
+            }
+        } else if (authority != null) {
+            roles.add(authority.toString());
+        }
+        return new ClaimsAuthUser(claims.getSubject(), roles);
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    /**
+     * @return null: the password is never part of a token
+     */
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public Collection<String> getRoles() {
+        return roles;
+    }
+}
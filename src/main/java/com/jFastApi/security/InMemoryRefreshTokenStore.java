@@ -0,0 +1,98 @@
+package com.jFastApi.security;
+
+import com.jFastApi.annotation.Bean;
+import com.jFastApi.util.PropertiesUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Default {@link RefreshTokenStore}, keeping families in this instance's memory until their last
+ * token expires.
+ * <p>
+ * Refresh tokens therefore do not survive a restart, and each instance only accepts the tokens it
+ * issued. At most {@code app.security.refresh_token.store_size} families are kept. When the store
+ * is full, expired families are dropped (at most once per second); if none has expired, the new
+ * family is not stored and its refresh token is rejected, so the client logs in again.
+ */
+@Bean
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InMemoryRefreshTokenStore.class);
+
+    private static final long PURGE_INTERVAL_MILLIS = 1000;
+
+    private final int maxFamilies;
+
+    // family id -> latest token of the family
+    private final Map<String, Family> families = new ConcurrentHashMap<>();
+    private final AtomicLong nextPurgeMillis = new AtomicLong();
+
+    public InMemoryRefreshTokenStore() {
+        this(PropertiesUtil.getPropertyInteger(PropertiesUtil.SECURITY_REFRESH_TOKEN_STORE_SIZE, 100000));
+    }
+
+    InMemoryRefreshTokenStore(int maxFamilies) {
+        this.maxFamilies = maxFamilies;
+    }
+
+    @Override
+    public void start(String familyId, String tokenId, long expiresAtMillis) {
+        if (families.size() >= maxFamilies) {
+            purgeExpired(System.currentTimeMillis());
+            if (families.size() >= maxFamilies) {
+                LOGGER.warn("Refresh token store is full ({} families), token family {} not stored", maxFamilies, familyId);
+                return;
+            }
+        }
+        families.put(familyId, new Family(tokenId, expiresAtMillis));
+    }
+
+    @Override
+    public boolean rotate(String familyId, String tokenId, String nextTokenId, long expiresAtMillis) {
+        if (familyId == null || tokenId == null) {
+            return false;
+        }
+
+        Family current = families.get(familyId);
+        if (current == null) {
+            return false;
+        }
+        if (System.currentTimeMillis() >= current.expiresAtMillis()) {
+            families.remove(familyId, current);
+            return false;
+        }
+
+        // Loses against a concurrent redemption of the same token: that is reuse too
+        if (!current.tokenId().equals(tokenId)
+                || !families.replace(familyId, current, new Family(nextTokenId, expiresAtMillis))) {
+            families.remove(familyId);
+            LOGGER.warn("Refresh token reuse detected, revoked token family {}", familyId);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void revoke(String familyId) {
+        families.remove(familyId);
+    }
+
+    public int size() {
+        return families.size();
+    }
+
+    private void purgeExpired(long nowMillis) {
+        long next = nextPurgeMillis.get();
+        if (nowMillis < next || !nextPurgeMillis.compareAndSet(next, nowMillis + PURGE_INTERVAL_MILLIS)) {
+            return;
+        }
+        families.values().removeIf(family -> nowMillis >= family.expiresAtMillis());
+    }
+
+    private record Family(String tokenId, long expiresAtMillis) {
+    }
+}
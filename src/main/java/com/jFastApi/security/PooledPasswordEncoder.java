@@ -0,0 +1,178 @@
+package com.jFastApi.security;
+
+import com.jFastApi.exception.ApplicationException;
+import com.jFastApi.exception.TooManyRequestException;
+import com.jFastApi.metrics.LatencyHistogram;
+import com.jFastApi.util.PropertiesUtil;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs a {@link PasswordEncoder} on a small, bounded pool of platform threads.
+ * <p>
+ * Password hashing is CPU-bound by design (PBKDF2 with 65,536 iterations for the default
+ * encoder). Run on request virtual threads, a login burst would occupy every carrier thread and
+ * stall all other routes. Here at most {@code threads} hashes run at once and at most
+ * {@code queueSize} wait; further calls fail fast with {@link TooManyRequestException}. The
+ * calling virtual thread waits without holding a carrier.
+ */
+public final class PooledPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+
+    private final LatencyHistogram encodeTime = new LatencyHistogram();
+    private final LatencyHistogram matchTime = new LatencyHistogram();
+    private final LatencyHistogram encodeQueueTime = new LatencyHistogram();
+    private final LatencyHistogram matchQueueTime = new LatencyHistogram();
+    private final LongAdder rejected = new LongAdder();
+
+    public PooledPasswordEncoder(PasswordEncoder delegate, int threads, int queueSize) {
+        if (delegate == null) {
+            throw new ApplicationException("Encoder cannot be null");
+        }
+        if (threads < 1 || queueSize < 0) {
+            throw new ApplicationException("Password hashing needs at least one thread and a non-negative queue size");
+        }
+        this.delegate = delegate;
+
+        // Without a queue, a call is rejected unless a thread is idle
+        BlockingQueue<Runnable> queue = queueSize == 0 ? new SynchronousQueue<>() : new ArrayBlockingQueue<>(queueSize);
+        AtomicInteger count = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, queue, runnable -> {
+            Thread thread = new Thread(runnable, "jfastapi-password-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Wraps the encoder as configured by the {@code app.security.password_hashing.*} properties,
+     * or returns it unchanged if {@code app.security.password_hashing.threads} is 0.
+     */
+    public static PasswordEncoder fromProperties(PasswordEncoder delegate) {
+        if (delegate instanceof PooledPasswordEncoder) {
+            return delegate;
+        }
+
+        int threads = PropertiesUtil.getPropertyInteger(PropertiesUtil.SECURITY_PASSWORD_HASHING_THREADS,
+                Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+        if (threads <= 0) {
+            return delegate;
+        }
+        int queueSize = PropertiesUtil.getPropertyInteger(PropertiesUtil.SECURITY_PASSWORD_HASHING_QUEUE_SIZE, 32);
+        return new PooledPasswordEncoder(delegate, threads, queueSize);
+    }
+
+    @Override
+    public String encode(String rawPassword) {
+        return run(() -> delegate.encode(rawPassword), encodeQueueTime, encodeTime);
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword), matchQueueTime, matchTime);
+    }
+
+    private <T> T run(Supplier<T> task, LatencyHistogram queueTime, LatencyHistogram hashTime) {
+        long queuedAt = System.nanoTime();
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long start = System.nanoTime();
+                queueTime.record(start - queuedAt);
+                try {
+                    return task.get();
+                } finally {
+                    hashTime.record(System.nanoTime() - start);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            throw new TooManyRequestException("Too many password checks in progress, try again later");
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ApplicationException("Interrupted while waiting for password hashing");
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new ApplicationException(ex);
+        }
+    }
+
+    /**
+     * Lets the hashing threads exit. Calls made afterwards are rejected.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * @return calls waiting for a hashing thread
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * @return hashes being computed right now
+     */
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * @return calls rejected because the queue was full
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * @return time spent in {@code encode}, in nanoseconds
+     */
+    public LatencyHistogram getEncodeTime() {
+        return encodeTime;
+    }
+
+    /**
+     * @return time spent in {@code matches}, in nanoseconds
+     */
+    public LatencyHistogram getMatchTime() {
+        return matchTime;
+    }
+
+    /**
+     * @return time {@code encode} calls waited for a hashing thread, in nanoseconds
+     */
+    public LatencyHistogram getEncodeQueueTime() {
+        return encodeQueueTime;
+    }
+
+    /**
+     * @return time {@code matches} calls waited for a hashing thread, in nanoseconds
+     */
+    public LatencyHistogram getMatchQueueTime() {
+        return matchQueueTime;
+    }
+}
@@ -0,0 +1,327 @@
+package com.jFastApi.security;
+
+import com.jFastApi.exception.ApplicationException;
+import com.jFastApi.util.PropertiesUtil;
+import com.jFastApi.util.StringUtility;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Shares rate limits across the nodes of a cluster over a small UDP gossip protocol.
+ * <p>
+ * Each node still decides every request alone, from its local bucket: the cluster only sets the
+ * share of the global limit a node may use for each route and client. Every sync interval, a node
+ * sends its peers the request rate it sees per route and client (its demand) and leases itself a
+ * share proportional to its part of the cluster-wide demand. A tenth of the limit is always split
+ * evenly, so no node's share drops to zero. Without demand anywhere, the limit is split evenly
+ * between the live nodes.
+ * <p>
+ * A peer that stays silent for {@code peerTimeout} is considered gone and its share returns to the
+ * others. Datagrams are accepted only from the configured peers; they are not authenticated, so
+ * keep the gossip port on a private network.
+ */
+public final class RateLimitCluster {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RateLimitCluster.class);
+
+    // "JFRL", then a version byte, the sender's node id and the entry count
+    private static final int MAGIC = 0x4A46524C;
+    private static final byte VERSION = 1;
+    private static final int HEADER_SIZE = 4 + 1 + 8 + 2;
+
+    // Stays below the usual MTU once the UDP/IP headers are added
+    private static final int MAX_DATAGRAM_SIZE = 1400;
+
+    // Part of each limit split evenly between nodes whatever their demand
+    private static final double EVEN_SHARE = 0.1;
+
+    // Started and not shut down yet, so the application's shutdown hook can close them
+    private static final Set<RateLimitCluster> started = ConcurrentHashMap.newKeySet();
+
+    private final InetSocketAddress bindAddress;
+    private final List<InetSocketAddress> peers;
+    private final long syncIntervalNanos;
+    private final long peerTimeoutNanos;
+
+    // Tells this node's own datagrams apart, e.g. when it is listed under an address it is not bound to
+    private final long nodeId = new SecureRandom().nextLong();
+
+    private final Map<InetSocketAddress, Peer> peerStates = new ConcurrentHashMap<>();
+
+    private DatagramSocket socket;
+    private Thread thread;
+    private volatile boolean running;
+
+    public RateLimitCluster(InetSocketAddress bindAddress, List<InetSocketAddress> peers,
+                            Duration syncInterval, Duration peerTimeout) {
+        this.bindAddress = bindAddress;
+        // A node listed among its own peers (same config on every node) skips its bind address;
+        // other addresses of its own, e.g. behind a wildcard bind, are recognized by the node id
+        this.peers = peers.stream().filter(peer -> !peer.equals(bindAddress)).toList();
+        this.syncIntervalNanos = Math.max(1, syncInterval.toNanos());
+        this.peerTimeoutNanos = peerTimeout.toNanos();
+    }
+
+    /**
+     * Creates the cluster configured by the {@code app.security.api.rate_limiter.cluster.*}
+     * properties, or returns null if cluster mode or rate limiting is disabled.
+     */
+    public static RateLimitCluster fromProperties() {
+        if (!PropertiesUtil.getPropertyBoolean(PropertiesUtil.SECURITY_RATE_LIMIT_CLUSTER_ENABLED, false)) {
+            return null;
+        }
+        if (!SecurityContext.isRateLimitEnabled()) {
+            LOGGER.warn("Rate limit cluster is enabled but rate limiting is not, the gossip port stays closed");
+            return null;
+        }
+
+        String host = PropertiesUtil.getProperty(PropertiesUtil.SECURITY_RATE_LIMIT_CLUSTER_BIND_ADDRESS);
+        int port = PropertiesUtil.getPropertyInteger(PropertiesUtil.SECURITY_RATE_LIMIT_CLUSTER_PORT, 7946);
+        InetSocketAddress bindAddress = new InetSocketAddress(StringUtility.isEmpty(host) ? "0.0.0.0" : host.trim(), port);
+
+        List<InetSocketAddress> peers = new ArrayList<>();
+        for (String peer : PropertiesUtil.getValueList(PropertiesUtil.SECURITY_RATE_LIMIT_CLUSTER_PEERS)) {
+            if (!peer.isBlank()) {
+                peers.add(parseAddress(peer.trim()));
+            }
+        }
+
+        return new RateLimitCluster(bindAddress, peers,
+                Duration.ofMillis(PropertiesUtil.getPropertyLong(PropertiesUtil.SECURITY_RATE_LIMIT_CLUSTER_SYNC_INTERVAL_MS, 200L)),
+                Duration.ofMillis(PropertiesUtil.getPropertyLong(PropertiesUtil.SECURITY_RATE_LIMIT_CLUSTER_PEER_TIMEOUT_MS, 2000L)));
+    }
+
+    private static InetSocketAddress parseAddress(String address) {
+        int colon = address.lastIndexOf(':');
+        if (colon <= 0) {
+            throw new ApplicationException("Rate limit peer must be host:port, got " + address);
+        }
+        try {
+            return new InetSocketAddress(address.substring(0, colon), Integer.parseInt(address.substring(colon + 1)));
+        } catch (IllegalArgumentException ex) {
+            throw new ApplicationException("Invalid rate limit peer " + address, ex);
+        }
+    }
+
+    /**
+     * Binds the gossip socket and starts exchanging demand with the peers.
+     *
+     * @param localDemand called once per sync interval, on the gossip thread: rebalances the local
+     *                    shares and returns the local demand to announce, in requests per second
+     */
+    public void start(Supplier<Map<Key, Double>> localDemand) {
+        try {
+            socket = new DatagramSocket(bindAddress);
+        } catch (SocketException ex) {
+            throw new ApplicationException("Failed to bind rate limit gossip to " + bindAddress, ex);
+        }
+
+        running = true;
+        started.add(this);
+        thread = new Thread(() -> run(localDemand), "jfastapi-rate-limit-gossip");
+        thread.setDaemon(true);
+        thread.start();
+        LOGGER.info("Rate limit cluster listening on {} with {} peers", bindAddress, peers.size());
+    }
+
+    /**
+     * Stops the gossip thread and closes the socket.
+     */
+    public void shutdown() {
+        running = false;
+        started.remove(this);
+        if (socket != null) {
+            socket.close();
+        }
+    }
+
+    /**
+     * Shuts down every cluster still running, from the application's shutdown hook.
+     */
+    public static void shutdownAll() {
+        started.forEach(RateLimitCluster::shutdown);
+    }
+
+    /**
+     * Returns the share of the route's limit this node may use for a client, between 0 and 1.
+     *
+     * @param localDemand the client's request rate on this node
+     */
+    public double shareOf(Key key, double localDemand) {
+        long now = System.nanoTime();
+        int nodes = 1;
+        double demand = localDemand;
+
+        for (Peer peer : peerStates.values()) {
+            if (now - peer.lastSeenNanos > peerTimeoutNanos) {
+                continue;
+            }
+            nodes++;
+            Demand peerDemand = peer.demand.get(key);
+            if (peerDemand != null && now - peerDemand.receivedAtNanos() <= 3 * syncIntervalNanos) {
+                demand += peerDemand.rate();
+            }
+        }
+
+        if (demand <= 0) {
+            return 1.0 / nodes;
+        }
+        return EVEN_SHARE / nodes + (1 - EVEN_SHARE) * localDemand / demand;
+    }
+
+    /**
+     * @return peers heard from within the peer timeout
+     */
+    public int getLivePeerCount() {
+        long now = System.nanoTime();
+        return (int) peerStates.values().stream().filter(peer -> now - peer.lastSeenNanos <= peerTimeoutNanos).count();
+    }
+
+    private void run(Supplier<Map<Key, Double>> localDemand) {
+        byte[] buffer = new byte[64 * 1024];
+        DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+        long nextSync = System.nanoTime();
+
+        while (running) {
+            try {
+                long wait = nextSync - System.nanoTime();
+                if (wait <= 0) {
+                    nextSync = System.nanoTime() + syncIntervalNanos;
+                    purgeStaleDemand();
+                    send(localDemand.get());
+                    continue;
+                }
+
+                socket.setSoTimeout((int) Math.max(1, TimeUnit.NANOSECONDS.toMillis(wait)));
+                packet.setLength(buffer.length);
+                try {
+                    socket.receive(packet);
+                } catch (SocketTimeoutException ex) {
+                    continue;
+                }
+                receive(packet);
+            } catch (IOException | RuntimeException ex) {
+                if (running) {
+                    LOGGER.warn("Rate limit gossip failed, error {}", ex.getMessage());
+                }
+            }
+        }
+    }
+
+    // Always sends at least one datagram: it doubles as the heartbeat
+    private void send(Map<Key, Double> demand) throws IOException {
+        List<byte[]> datagrams = new ArrayList<>();
+        ByteArrayOutputStream entries = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(entries);
+        ByteArrayOutputStream entry = new ByteArrayOutputStream();
+        DataOutputStream entryOut = new DataOutputStream(entry);
+        int count = 0;
+
+        for (Map.Entry<Key, Double> e : demand.entrySet()) {
+            entry.reset();
+            entryOut.writeUTF(e.getKey().route());
+            entryOut.writeUTF(e.getKey().principal());
+            entryOut.writeDouble(e.getValue());
+
+            if (count > 0 && entries.size() + entry.size() > MAX_DATAGRAM_SIZE - HEADER_SIZE) {
+                datagrams.add(datagram(count, entries.toByteArray()));
+                entries.reset();
+                count = 0;
+            }
+            entry.writeTo(out);
+            count++;
+        }
+        datagrams.add(datagram(count, entries.toByteArray()));
+
+        for (InetSocketAddress peer : peers) {
+            for (byte[] datagram : datagrams) {
+                try {
+                    socket.send(new DatagramPacket(datagram, datagram.length, peer));
+                } catch (IOException ex) {
+                    // A peer that is down; it is dropped after the peer timeout
+                    LOGGER.debug("Failed to send rate limit demand to {}, error {}", peer, ex.getMessage());
+                }
+            }
+        }
+    }
+
+    private byte[] datagram(int count, byte[] entries) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(HEADER_SIZE + entries.length);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeLong(nodeId);
+        out.writeShort(count);
+        out.write(entries);
+        return bytes.toByteArray();
+    }
+
+    private void receive(DatagramPacket packet) throws IOException {
+        InetSocketAddress sender = (InetSocketAddress) packet.getSocketAddress();
+        if (!peers.contains(sender)) {
+            LOGGER.debug("Ignoring rate limit datagram from unknown peer {}", sender);
+            return;
+        }
+
+        DataInputStream in = new DataInputStream(
+                new ByteArrayInputStream(packet.getData(), packet.getOffset(), packet.getLength()));
+        if (in.readInt() != MAGIC || in.readByte() != VERSION || in.readLong() == nodeId) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        Peer peer = peerStates.computeIfAbsent(sender, address -> new Peer());
+        peer.lastSeenNanos = now;
+
+        int count = in.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            Key key = new Key(in.readUTF(), in.readUTF());
+            peer.demand.put(key, new Demand(in.readDouble(), now));
+        }
+    }
+
+    // A peer stops announcing a client once the client goes quiet there
+    private void purgeStaleDemand() {
+        long now = System.nanoTime();
+        for (Peer peer : peerStates.values()) {
+            peer.demand.values().removeIf(demand -> now - demand.receivedAtNanos() > 3 * syncIntervalNanos);
+        }
+    }
+
+    /**
+     * A route and client, named the same way on every node.
+     *
+     * @param route     the route's rate limit policy name, e.g. {@code GET /todo}
+     * @param principal the client's IP or username
+     */
+    public record Key(String route, String principal) {
+    }
+
+    private static final class Peer {
+        private volatile long lastSeenNanos;
+        private final Map<Key, Demand> demand = new ConcurrentHashMap<>();
+    }
+
+    private record Demand(double rate, long receivedAtNanos) {
+    }
+}
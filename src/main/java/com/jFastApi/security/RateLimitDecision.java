@@ -0,0 +1,39 @@
+package com.jFastApi.security;
+
+import com.sun.net.httpserver.Headers;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome of {@link ApiRateLimiter#acquire(RateLimitPolicy, String)}.
+ *
+ * @param allowed         whether the request may proceed
+ * @param remaining       requests the client can still make right away
+ * @param resetNanos      time until the client's bucket is full again
+ * @param retryAfterNanos time until the next request is allowed, 0 if allowed
+ */
+public record RateLimitDecision(RateLimitPolicy policy, boolean allowed, int remaining, long resetNanos,
+                                long retryAfterNanos) {
+
+    /**
+     * Writes the {@code RateLimit-Limit}, {@code RateLimit-Remaining}, {@code RateLimit-Reset}
+     * and {@code RateLimit-Policy} headers.
+     */
+    public void writeHeaders(Headers headers) {
+        headers.set("RateLimit-Limit", Integer.toString(policy.getLimit()));
+        headers.set("RateLimit-Remaining", Integer.toString(remaining));
+        headers.set("RateLimit-Reset", Long.toString(toSeconds(resetNanos)));
+        headers.set("RateLimit-Policy", policy.getHeader());
+    }
+
+    /**
+     * @return the {@code Retry-After} value, in whole seconds rounded up
+     */
+    public long retryAfterSeconds() {
+        return Math.max(1, toSeconds(retryAfterNanos));
+    }
+
+    private static long toSeconds(long nanos) {
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+}
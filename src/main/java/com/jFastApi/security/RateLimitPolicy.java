@@ -0,0 +1,64 @@
+package com.jFastApi.security;
+
+import com.jFastApi.exception.ApplicationException;
+
+import java.time.Duration;
+
+/**
+ * Rate limit of one route: {@code limit} requests per {@code period} for each client, computed
+ * once when the route is registered.
+ * <p>
+ * Each route has its own policy instance, which {@link ApiRateLimiter} uses (by identity) as the
+ * route part of its bucket keys, so a client's requests to one route never count against another.
+ */
+public final class RateLimitPolicy {
+
+    private final String name;
+    private final int limit;
+    private final long periodNanos;
+    private final long emissionIntervalNanos;
+    private final String header;
+
+    public RateLimitPolicy(int limit, Duration period) {
+        this("default", limit, period);
+    }
+
+    /**
+     * @param name identifies the route across cluster nodes, e.g. {@code GET /todo}
+     */
+    public RateLimitPolicy(String name, int limit, Duration period) {
+        if (limit < 1 || period.isNegative() || period.isZero()) {
+            throw new ApplicationException("Rate limit needs at least one request per positive period, got "
+                    + limit + " per " + period);
+        }
+        this.name = name;
+        this.limit = limit;
+        this.periodNanos = period.toNanos();
+        // Requests regain one permit every period / limit
+        this.emissionIntervalNanos = Math.max(1, periodNanos / limit);
+        this.header = limit + ";w=" + Math.max(1, period.toSeconds());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public long getPeriodNanos() {
+        return periodNanos;
+    }
+
+    long getEmissionIntervalNanos() {
+        return emissionIntervalNanos;
+    }
+
+    /**
+     * @return the {@code RateLimit-Policy} header value, e.g. {@code 5;w=1}
+     */
+    String getHeader() {
+        return header;
+    }
+}
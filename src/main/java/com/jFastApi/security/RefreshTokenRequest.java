@@ -0,0 +1,5 @@
+package com.jFastApi.security;
+
+public record RefreshTokenRequest(String refreshToken) {
+
+}
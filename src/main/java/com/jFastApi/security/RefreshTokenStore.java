@@ -0,0 +1,35 @@
+package com.jFastApi.security;
+
+/**
+ * Tracks refresh token families for rotation and reuse detection.
+ * <p>
+ * Login starts a family. Every refresh token carries its family and its own id ({@code jti}),
+ * and only the latest token of a family can be redeemed: redeeming it rotates the family to
+ * the next token. Presenting an older token means it was copied, so the whole family is
+ * revoked and both holders must log in again.
+ * <p>
+ * {@link InMemoryRefreshTokenStore} is used by default. To accept refresh tokens on every node
+ * behind a load balancer, or after a restart, declare a {@code @Bean} implementing this interface
+ * on top of a shared store; it replaces the default one.
+ */
+public interface RefreshTokenStore {
+
+    /**
+     * Starts a family whose first token is the given one.
+     */
+    void start(String familyId, String tokenId, long expiresAtMillis);
+
+    /**
+     * Replaces the family's latest token by the next one. Must be atomic: of two concurrent
+     * calls with the same token, at most one may succeed.
+     *
+     * @return false if the token cannot be redeemed: the family is unknown (expired, revoked or
+     * never stored), or the token was already used, in which case the family is revoked
+     */
+    boolean rotate(String familyId, String tokenId, String nextTokenId, long expiresAtMillis);
+
+    /**
+     * Revokes every refresh token of the family, e.g. on logout.
+     */
+    void revoke(String familyId);
+}
@@ -11,10 +11,15 @@ public final class SecurityContext {
 
     private static final ThreadLocal<AuthUser> currentUser = new ThreadLocal<>();
 
-    private static PasswordEncoder passwordEncoder = new DefaultPasswordEncoder();
+    // Hashing runs on its own bounded thread pool, see PooledPasswordEncoder
+    private static volatile PasswordEncoder passwordEncoder = PooledPasswordEncoder.fromProperties(new DefaultPasswordEncoder());
 
     private static final boolean enabled = PropertiesUtil.getPropertyBoolean(PropertiesUtil.SECURITY_ENABLE, false);
-    private static final boolean rateLimitEnabled = PropertiesUtil.getPropertyBoolean(PropertiesUtil.SECURITY_RATE_LIMIT_ENABLED, true);
+    private static final boolean rateLimitEnabled = PropertiesUtil.getPropertyBoolean(PropertiesUtil.SECURITY_RATE_LIMIT_ENABLED, false);
+    private static final boolean stateless = PropertiesUtil.getPropertyBoolean(PropertiesUtil.SECURITY_STATELESS, false);
+    private static final boolean userCacheEnabled = PropertiesUtil.getPropertyBoolean(PropertiesUtil.SECURITY_USER_CACHE_ENABLED, false);
+
+    private static volatile CachingAuthUserService userCache;
 
     public static boolean isEnabled() {
         return enabled;
@@ -24,6 +29,13 @@ public final class SecurityContext {
         return rateLimitEnabled;
     }
 
+    /**
+     * @return true if requests are authorized from token claims only, without loading the user
+     */
+    public static boolean isStateless() {
+        return stateless;
+    }
+
     public static void setCurrentUser(AuthUser user) {
         currentUser.set(user);
     }
@@ -36,9 +48,46 @@ public final class SecurityContext {
         return passwordEncoder;
     }
 
+    /**
+     * Replaces the password encoder. It runs on the password hashing pool like the default one,
+     * so {@link #getPasswordEncoder()} returns a wrapper around it.
+     */
     public static void setPasswordEncoder(PasswordEncoder passwordEncoder) {
         if (passwordEncoder == null) throw new ApplicationException("Encoder cannot be null");
-        SecurityContext.passwordEncoder = passwordEncoder;
+        PasswordEncoder previous = SecurityContext.passwordEncoder;
+        SecurityContext.passwordEncoder = PooledPasswordEncoder.fromProperties(passwordEncoder);
+        if (previous instanceof PooledPasswordEncoder pooled && previous != SecurityContext.passwordEncoder) {
+            pooled.shutdown();
+        }
+    }
+
+    /**
+     * Wraps the service in the user cache if {@code app.security.user_cache.enabled}. Called once,
+     * by the authorization interceptor.
+     */
+    static AuthUserService cacheUsers(AuthUserService authUserService) {
+        if (!userCacheEnabled) {
+            return authUserService;
+        }
+        userCache = CachingAuthUserService.fromProperties(authUserService);
+        return userCache;
+    }
+
+    /**
+     * @return the user cache of the authorization path, or null if disabled
+     */
+    public static CachingAuthUserService getUserCache() {
+        return userCache;
+    }
+
+    /**
+     * Drops a cached user, e.g. after its roles or password changed. Does nothing if the cache is disabled.
+     */
+    public static void invalidateUser(String username) {
+        CachingAuthUserService cache = userCache;
+        if (cache != null) {
+            cache.invalidate(username);
+        }
     }
 
     public static void clear() {
@@ -1,26 +1,93 @@
 package com.jFastApi.util;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jFastApi.json.JsonCodec;
+import com.jFastApi.json.JsonCodecRegistry;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringWriter;
 
 public final class JsonUtility {
     private JsonUtility() {
     }
 
-    private static final ObjectMapper mapper = new ObjectMapper();
+    // Shared across threads so buffers are reused even though every request runs on a new virtual thread
+    private static final MeteredRecyclerPool recyclerPool = new MeteredRecyclerPool(
+            PropertiesUtil.getPropertyInteger(PropertiesUtil.JSON_RECYCLER_POOL_SIZE, 100)
+    );
+
+    private static final ObjectMapper mapper = new ObjectMapper(
+            JsonFactory.builder()
+                    .recyclerPool(recyclerPool)
+                    .build()
+    );
 
     public static <T> T fromJson(InputStream input, Class<T> clazz) throws IOException {
-        return mapper.readValue(input, clazz);
+
+        // Prefer the compile-time generated codec, fall back to Jackson databind
+        JsonCodec<T> codec = JsonCodecRegistry.find(clazz);
+        if (codec == null) {
+            return mapper.readValue(input, clazz);
+        }
+
+        try (JsonParser parser = mapper.createParser(input)) {
+            return codec.read(parser);
+        }
     }
 
     public static String toJson(Object obj) {
 
         try {
-            return mapper.writeValueAsString(obj);
+            JsonCodec<Object> codec = findCodec(obj);
+            if (codec == null) {
+                return mapper.writeValueAsString(obj);
+            }
+
+            StringWriter writer = new StringWriter();
+            try (JsonGenerator generator = mapper.createGenerator(writer)) {
+                codec.write(generator, obj);
+            }
+            return writer.toString();
         } catch (Exception ex) {
             return "";
         }
     }
+
+    public static byte[] toJsonBytes(Object obj) throws IOException {
+
+        JsonCodec<Object> codec = findCodec(obj);
+        if (codec == null) {
+            return mapper.writeValueAsBytes(obj);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = mapper.createGenerator(out)) {
+            codec.write(generator, obj);
+        }
+        return out.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static JsonCodec<Object> findCodec(Object obj) {
+        return obj == null ? null : (JsonCodec<Object>) JsonCodecRegistry.find(obj.getClass());
+    }
+
+    /**
+     * Returns the framework-wide ObjectMapper, configured with the shared buffer recycler pool.
+     */
+    public static ObjectMapper getMapper() {
+        return mapper;
+    }
+
+    /**
+     * Returns the buffer recycler pool used by the framework's mappers, for reuse metrics.
+     */
+    public static MeteredRecyclerPool getRecyclerPool() {
+        return recyclerPool;
+    }
 }
@@ -11,12 +11,41 @@ import java.util.Date;
 import java.util.Map;
 import java.util.function.Function;
 
+/**
+ * Issues and verifies the HMAC-signed JWTs of the security module.
+ * <p>
+ * One {@link JwtParser} is built up front and shared: it is immutable and thread-safe.
+ * Verified tokens are cached until their {@code exp} ({@code app.security.token_cache.size},
+ * default 10000, 0 disables), so repeat requests with the same bearer token skip Base64
+ * decoding, JSON parsing and the signature check.
+ */
 @Bean
 public class JwtHelper {
+
+    /**
+     * Claim telling access tokens from refresh tokens; tokens without it are access tokens.
+     */
+    public static final String TOKEN_TYPE_CLAIM = "token_type";
+    public static final String ACCESS_TOKEN = "access";
+    public static final String REFRESH_TOKEN = "refresh";
+
+    /**
+     * Claim of refresh tokens holding their rotation family.
+     */
+    public static final String FAMILY_CLAIM = "fam";
+
     private final SecretKey key;
+    private final JwtParser parser;
+    private final VerifiedTokenCache cache;
 
     public JwtHelper(String secret) {
+        this(secret, PropertiesUtil.getPropertyInteger(PropertiesUtil.SECURITY_TOKEN_CACHE_SIZE, 10000));
+    }
+
+    JwtHelper(String secret, int cacheSize) {
         this.key = getSecretKey(secret);
+        this.parser = Jwts.parser().verifyWith(key).build();
+        this.cache = cacheSize > 0 ? new VerifiedTokenCache(cacheSize) : null;
     }
 
     public String generateToken(String username, Map<String, Object> extraClaims, long expirationDate) {
@@ -30,23 +59,37 @@ public class JwtHelper {
         return builder.compact();
     }
 
-    public boolean isValidToken(String token, String username) throws MalformedJwtException {
+    /**
+     * Verifies the token once and returns its claims.
+     * The signature and the expiration are checked, or the token was checked before and is still cached.
+     *
+     * @throws ExpiredJwtException if the token has expired
+     * @throws JwtException        if the token is malformed or its signature does not match
+     */
+    public Claims verify(String token) throws ExpiredJwtException, UnsupportedJwtException,
+            MalformedJwtException, SignatureException, IllegalArgumentException {
 
-        boolean isValid = extractUsername(token).equalsIgnoreCase(username) && !isExpired(token);
-        if (!isValid) {
-            throw new MalformedJwtException("Invalid Token");
+        if (cache == null) {
+            return extractAllClaims(token);
         }
-        return true;
-    }
-
-    private boolean isExpired(String token) {
 
-        return extractExpiration(token).before(new Date());
+        VerifiedTokenCache.Key cacheKey = VerifiedTokenCache.key(token);
+        Claims claims = cache.get(cacheKey, System.currentTimeMillis());
+        if (claims == null) {
+            claims = extractAllClaims(token);
+            cache.put(cacheKey, claims, System.currentTimeMillis());
+        }
+        return claims;
     }
 
-    private Date extractExpiration(String token) throws MalformedJwtException {
+    public boolean isValidToken(String token, String username) throws MalformedJwtException {
 
-        return parseSingleClaim(token, Claims::getExpiration);
+        // Expired tokens are rejected by verify
+        boolean isValid = verify(token).getSubject().equalsIgnoreCase(username);
+        if (!isValid) {
+            throw new MalformedJwtException("Invalid Token");
+        }
+        return true;
     }
 
     public String extractUsername(String token) throws ExpiredJwtException, UnsupportedJwtException,
@@ -63,15 +106,13 @@ public class JwtHelper {
     private <T> T parseSingleClaim(String token, Function<Claims, T> resolver) throws ExpiredJwtException,
             UnsupportedJwtException, MalformedJwtException, SignatureException, IllegalArgumentException {
 
-        Claims claims = extractAllClaims(token);
+        Claims claims = verify(token);
         return resolver.apply(claims);
     }
 
     private Claims extractAllClaims(String token) throws ExpiredJwtException, UnsupportedJwtException,
             MalformedJwtException, SignatureException, IllegalArgumentException {
 
-        JwtParser parser = Jwts.parser()
-                .verifyWith(key).build();
         return parser.parseSignedClaims(token).getPayload();
     }
 
@@ -0,0 +1,86 @@
+package com.jFastApi.util;
+
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.RecyclerPool;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shared, bounded pool of Jackson {@link BufferRecycler}s that is not tied to any thread.
+ * <p>
+ * Jackson's default pool keeps one recycler per thread, which never gets reused when every
+ * request runs on a brand-new virtual thread. This pool hands recyclers out of a bounded
+ * concurrent queue instead, so buffers survive the thread that used them.
+ * <p>
+ * Counts acquisitions and fresh allocations so buffer reuse can be observed at runtime.
+ */
+public final class MeteredRecyclerPool extends RecyclerPool.BoundedPoolBase<BufferRecycler> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient LongAdder acquired = new LongAdder();
+    private final transient LongAdder created = new LongAdder();
+    private final transient LongAdder released = new LongAdder();
+
+    /**
+     * @param capacity maximum number of idle recyclers kept in the pool
+     *                 (values &lt;= 0 fall back to Jackson's default of 100)
+     */
+    public MeteredRecyclerPool(int capacity) {
+        super(capacity);
+    }
+
+    @Override
+    public BufferRecycler createPooled() {
+        created.increment();
+        return new BufferRecycler();
+    }
+
+    @Override
+    public BufferRecycler acquirePooled() {
+        acquired.increment();
+        return super.acquirePooled();
+    }
+
+    @Override
+    public void releasePooled(BufferRecycler pooled) {
+        released.increment();
+        super.releasePooled(pooled);
+    }
+
+    /**
+     * @return total number of recyclers handed out to parsers and generators
+     */
+    public long getAcquiredCount() {
+        return acquired.sum();
+    }
+
+    /**
+     * @return number of recyclers that had to be freshly allocated
+     */
+    public long getCreatedCount() {
+        return created.sum();
+    }
+
+    /**
+     * @return number of recyclers returned to the pool after use
+     */
+    public long getReleasedCount() {
+        return released.sum();
+    }
+
+    /**
+     * @return number of acquisitions served from the pool without allocating
+     */
+    public long getReusedCount() {
+        return Math.max(0, getAcquiredCount() - getCreatedCount());
+    }
+
+    /**
+     * @return fraction of acquisitions served from the pool, between 0.0 and 1.0
+     */
+    public double getReuseRatio() {
+        long total = getAcquiredCount();
+        return total == 0 ? 0.0 : (double) getReusedCount() / total;
+    }
+}
@@ -29,8 +29,61 @@ public final class PropertiesUtil {
     public static final String SECURITY_SECRET_KEY = "app.security.secret_key";
     public static final String SECURITY_ACCESS_TOKEN_TIMEOUT = "app.security.access_token.timeout";
     public static final String SECURITY_REFRESH_TOKEN_TIMEOUT = "app.security.refresh_token.timeout";
+    public static final String SECURITY_REFRESH_TOKEN_STORE_SIZE = "app.security.refresh_token.store_size";
     public static final String SECURITY_RATE_LIMIT_ENABLED = "app.security.api.rate_limiter.enabled";
+    public static final String SECURITY_RATE_LIMIT_EVICTION_INTERVAL_MS = "app.security.api.rate_limiter.eviction_interval_ms";
+    public static final String SECURITY_RATE_LIMIT_CLUSTER_ENABLED = "app.security.api.rate_limiter.cluster.enabled";
+    public static final String SECURITY_RATE_LIMIT_CLUSTER_BIND_ADDRESS = "app.security.api.rate_limiter.cluster.bind_address";
+    public static final String SECURITY_RATE_LIMIT_CLUSTER_PORT = "app.security.api.rate_limiter.cluster.port";
+    public static final String SECURITY_RATE_LIMIT_CLUSTER_PEERS = "app.security.api.rate_limiter.cluster.peers";
+    public static final String SECURITY_RATE_LIMIT_CLUSTER_SYNC_INTERVAL_MS = "app.security.api.rate_limiter.cluster.sync_interval_ms";
+    public static final String SECURITY_RATE_LIMIT_CLUSTER_PEER_TIMEOUT_MS = "app.security.api.rate_limiter.cluster.peer_timeout_ms";
     public static final String SECURITY_ALLOWED_ORIGIN = "app.security.allowed.origins";
+    public static final String SECURITY_TOKEN_CACHE_SIZE = "app.security.token_cache.size";
+    public static final String SECURITY_PASSWORD_HASHING_THREADS = "app.security.password_hashing.threads";
+    public static final String SECURITY_PASSWORD_HASHING_QUEUE_SIZE = "app.security.password_hashing.queue_size";
+    public static final String SECURITY_STATELESS = "app.security.stateless";
+    public static final String SECURITY_USER_CACHE_ENABLED = "app.security.user_cache.enabled";
+    public static final String SECURITY_USER_CACHE_TTL_MS = "app.security.user_cache.ttl_ms";
+    public static final String SECURITY_USER_CACHE_NEGATIVE_TTL_MS = "app.security.user_cache.negative_ttl_ms";
+    public static final String SECURITY_USER_CACHE_SIZE = "app.security.user_cache.size";
+
+    public static final String JSON_RECYCLER_POOL_SIZE = "app.json.recycler_pool.size";
+
+    public static final String FORM_MAX_REQUEST_SIZE = "app.form.max_request_size";
+    public static final String FORM_MAX_FILE_SIZE = "app.form.max_file_size";
+    public static final String FORM_MEMORY_THRESHOLD = "app.form.memory_threshold";
+    public static final String FORM_POOL_MAX_CHUNKS = "app.form.pool.max_chunks";
+    public static final String FORM_TEMP_DIR = "app.form.temp_dir";
+
+    public static final String ACCESS_LOG_ENABLED = "app.access_log.enabled";
+    public static final String ACCESS_LOG_FILE = "app.access_log.file";
+    public static final String ACCESS_LOG_BUFFER_SIZE = "app.access_log.buffer_size";
+    public static final String ACCESS_LOG_MAX_FILE_SIZE = "app.access_log.max_file_size";
+    public static final String ACCESS_LOG_MAX_FILES = "app.access_log.max_files";
+    public static final String ACCESS_LOG_FLUSH_INTERVAL_MS = "app.access_log.flush_interval_ms";
+
+    public static final String METRICS_ENABLED = "app.metrics.enabled";
+    public static final String METRICS_PATH = "app.metrics.path";
+    public static final String SERVER_TIMING_DEBUG_HEADER_ENABLED = "app.server_timing.debug_header.enabled";
+
+    public static final String DIAGNOSTICS_ENABLED = "app.diagnostics.enabled";
+    public static final String DIAGNOSTICS_PATH = "app.diagnostics.path";
+    public static final String DIAGNOSTICS_PINNING_THRESHOLD_MS = "app.diagnostics.pinning.threshold_ms";
+
+    public static final String CAPTURE_ENABLED = "app.capture.enabled";
+    public static final String CAPTURE_FILE = "app.capture.file";
+    public static final String CAPTURE_SAMPLE_RATE = "app.capture.sample_rate";
+    public static final String CAPTURE_MAX_BODY_SIZE = "app.capture.max_body_size";
+    public static final String CAPTURE_MAX_FILE_SIZE = "app.capture.max_file_size";
+    public static final String CAPTURE_REDACT_HEADERS = "app.capture.redact_headers";
+    public static final String CAPTURE_REDACT_FIELDS = "app.capture.redact_fields";
+
+    public static final String STARTUP_DEFER_DATASOURCE = "app.startup.defer_datasource";
+    public static final String STARTUP_DATASOURCE_WAIT_MS = "app.startup.datasource_wait_ms";
+
+    public static final String CDS_TRAINING = "app.cds.training";
+    public static final String CDS_TRAINING_WARMUP = "app.cds.training.warmup";
 
     static {
 
@@ -46,6 +99,13 @@ public final class PropertiesUtil {
             } catch (IOException ex) {
                 LOGGER.error("Failed to read properties from app.properties file!");
             }
+
+            // JVM options override the file, e.g. -Dapp.cds.training=true or -Dport.number=9090
+            for (String key : System.getProperties().stringPropertyNames()) {
+                if (key.startsWith("app.") || key.equals(PORT_NUMBER)) {
+                    PROPERTIES.setProperty(key, System.getProperty(key));
+                }
+            }
         } catch (Exception ex) {
             LOGGER.error("Failed to properties file, error {}", ex.getMessage());
         }
@@ -67,6 +127,9 @@ public final class PropertiesUtil {
 
     public static int getPropertyInteger(String key, int defaultValue) {
         String property = PROPERTIES.getProperty(key);
+        if (property == null) {
+            return defaultValue;
+        }
 
         try {
             return Integer.parseInt(property);
@@ -77,8 +140,41 @@ public final class PropertiesUtil {
         return defaultValue;
     }
 
+    public static long getPropertyLong(String key, long defaultValue) {
+        String property = PROPERTIES.getProperty(key);
+        if (property == null) {
+            return defaultValue;
+        }
+
+        try {
+            return Long.parseLong(property.trim());
+        } catch (NumberFormatException ex) {
+            LOGGER.error("Failed to parse {} into long", property);
+        }
+
+        return defaultValue;
+    }
+
+    public static double getPropertyDouble(String key, double defaultValue) {
+        String property = PROPERTIES.getProperty(key);
+        if (property == null) {
+            return defaultValue;
+        }
+
+        try {
+            return Double.parseDouble(property.trim());
+        } catch (NumberFormatException ex) {
+            LOGGER.error("Failed to parse {} into double", property);
+        }
+
+        return defaultValue;
+    }
+
     public static boolean getPropertyBoolean(String key, boolean defaultValue) {
         String property = PROPERTIES.getProperty(key);
+        if (property == null) {
+            return defaultValue;
+        }
 
         try {
             return Boolean.parseBoolean(property);
@@ -1,5 +1,6 @@
 package com.jFastApi.util;
 
+import com.sun.net.httpserver.Headers;
 import com.sun.net.httpserver.HttpExchange;
 
 import java.net.URLDecoder;
@@ -46,6 +47,23 @@ public final class RequestUtility {
         return null; // header not present
     }
 
+    /**
+     * Reads the Content-Length header.
+     *
+     * @return the declared length, or -1 if absent or malformed
+     */
+    public static long getContentLength(Headers headers) {
+        String length = headers.getFirst("Content-Length");
+        if (length == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(length.trim());
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+
     /**
      * Get a trustable client IP address.
      * Checks "X-Forwarded-For" first (if behind proxy),
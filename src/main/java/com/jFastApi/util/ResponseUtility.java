@@ -1,7 +1,11 @@
 package com.jFastApi.util;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jFastApi.codec.BodyCodec;
+import com.jFastApi.codec.BodyCodecRegistry;
+import com.jFastApi.diagnostics.SerializationEvent;
+import com.jFastApi.exception.ApplicationException;
 import com.jFastApi.http.Response;
+import com.jFastApi.metrics.ServerTiming;
 import com.jFastApi.enumeration.ContentType;
 import com.jFastApi.enumeration.HttpStatus;
 import com.sun.net.httpserver.HttpExchange;
@@ -15,8 +19,6 @@ public final class ResponseUtility {
     private ResponseUtility() {
     }
 
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-
     /**
      * Sends an error response back to the client in JSON format.
      *
@@ -52,6 +54,7 @@ public final class ResponseUtility {
             } else {
                 // Optional: allow void or unrecognized return types
                 // Send 204 No Content if controller returned nothing meaningful
+                ServerTiming.writeHeader(exchange);
                 exchange.sendResponseHeaders(204, -1);
                 exchange.close();
             }
@@ -100,6 +103,8 @@ public final class ResponseUtility {
             // Set headers
             exchange.getResponseHeaders().add("Content-Type", contentType);
 
+            ServerTiming.writeHeader(exchange);
+
             // Send status code and length
             exchange.sendResponseHeaders(statusCode, bytes.length);
 
@@ -123,7 +128,8 @@ public final class ResponseUtility {
 
     /**
      * Sends a Response<T> back to the client using the HttpExchange.
-     * Supports String, byte[], and JSON bodies automatically.
+     * Supports String and byte[] bodies directly; other bodies are encoded with the codec
+     * negotiated from the request's Accept header (JSON, CBOR, Smile, MessagePack).
      *
      * @param exchange The HttpExchange object for sending the response.
      * @param response The Response<T> object containing body, headers, status, and content type.
@@ -131,6 +137,7 @@ public final class ResponseUtility {
      */
     public static <T> void sendResponse(HttpExchange exchange, Response<T> response) {
         byte[] bytes;
+        ContentType contentType = response.getContentType();
 
         try {
             // Convert body to bytes depending on type
@@ -143,18 +150,45 @@ public final class ResponseUtility {
             } else if (response.getBody() instanceof byte[] b) {
                 // Body is already a byte array → use directly
                 bytes = b;
-            } else if (response.getContentType() == ContentType.JSON) {
-                // Auto-convert any object to JSON using Jackson ObjectMapper
-                bytes = OBJECT_MAPPER.writeValueAsBytes(response.getBody());
             } else {
-                // Unsupported body type → throw exception
-                throw new IllegalArgumentException(
-                        "Unsupported response body type: " + response.getBody().getClass()
-                );
+                // Encode objects with the codec negotiated from the Accept header,
+                // falling back to the controller's content type (JSON by default)
+                String accept = RequestUtility.getHeader(exchange, "Accept");
+                BodyCodec codec = BodyCodecRegistry.negotiate(accept, response.getContentType());
+
+                // The encoding depends on Accept; add, as CORS may already have set Vary: Origin
+                exchange.getResponseHeaders().add("Vary", "Accept");
+                if (codec == null && BodyCodecRegistry.get(response.getContentType()) != null) {
+                    // Accept refuses every codec we could encode with
+                    sendErrorResponse(new ApplicationException("Not Acceptable: " + accept), exchange,
+                            HttpStatus.NOT_ACCEPTABLE);
+                    return;
+                }
+                if (codec == null) {
+                    // Unsupported body type → throw exception
+                    throw new IllegalArgumentException(
+                            "Unsupported response body type: " + response.getBody().getClass()
+                    );
+                }
+                long phaseStart = ServerTiming.start();
+                SerializationEvent event = new SerializationEvent();
+                event.begin();
+                try {
+                    bytes = codec.write(response.getBody());
+                } finally {
+                    ServerTiming.stop(ServerTiming.Phase.SERIALIZE, phaseStart);
+                }
+                contentType = codec.contentType();
+                if (event.shouldCommit()) {
+                    event.contentType = contentType.getMimeType();
+                    event.bodyType = response.getBody().getClass();
+                    event.bytes = bytes.length;
+                    event.commit();
+                }
             }
 
             // Set Content-Type header
-            exchange.getResponseHeaders().add("Content-Type", response.getContentType().getMimeType());
+            exchange.getResponseHeaders().add("Content-Type", contentType.getMimeType());
 
             // Set any additional custom headers
             for (Map.Entry<String, String> entry : response.getHeaders().entrySet()) {
@@ -166,6 +200,8 @@ public final class ResponseUtility {
                 exchange.getResponseHeaders().add("Connection", "keep-alive");
             }
 
+            ServerTiming.writeHeader(exchange);
+
             // Send response headers with status code and body length
             exchange.sendResponseHeaders(response.getStatus().getCode(), bytes.length);
 
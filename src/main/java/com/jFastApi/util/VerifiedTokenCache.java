@@ -0,0 +1,106 @@
+package com.jFastApi.util;
+
+import io.jsonwebtoken.Claims;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of verified JWTs, keyed by the SHA-256 digest of the token.
+ * <p>
+ * An entry lives until the token's {@code exp}, so a cached token is never accepted after it
+ * expires, and tokens without {@code exp} are not cached. Only the digest is kept, not the
+ * bearer token. When the cache is full, expired entries are dropped (at most once per
+ * second); if none has expired, new tokens are verified without being cached.
+ */
+final class VerifiedTokenCache {
+
+    private static final long PURGE_INTERVAL_MILLIS = 1000;
+
+    private static final MessageDigest SHA_256 = sha256();
+
+    private final int maxEntries;
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong nextPurgeMillis = new AtomicLong();
+
+    VerifiedTokenCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * @return the digest of the token, used as cache key
+     */
+    static Key key(String token) {
+        MessageDigest digest;
+        try {
+            digest = (MessageDigest) SHA_256.clone();
+        } catch (CloneNotSupportedException ex) {
+            digest = sha256();
+        }
+        ByteBuffer hash = ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.ISO_8859_1)));
+        return new Key(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+    }
+
+    /**
+     * @return the claims of a verified, unexpired token, or null
+     */
+    Claims get(Key key, long nowMillis) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (nowMillis >= entry.expiresAtMillis()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.claims();
+    }
+
+    void put(Key key, Claims claims, long nowMillis) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null || expiration.getTime() <= nowMillis) {
+            return;
+        }
+
+        if (entries.size() >= maxEntries) {
+            purgeExpired(nowMillis);
+            if (entries.size() >= maxEntries) {
+                return;
+            }
+        }
+        entries.put(key, new Entry(claims, expiration.getTime()));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void purgeExpired(long nowMillis) {
+        long next = nextPurgeMillis.get();
+        if (nowMillis < next || !nextPurgeMillis.compareAndSet(next, nowMillis + PURGE_INTERVAL_MILLIS)) {
+            return;
+        }
+        entries.values().removeIf(entry -> nowMillis >= entry.expiresAtMillis());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            // Every Java platform must support SHA-256
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    record Key(long h0, long h1, long h2, long h3) {
+    }
+
+    private record Entry(Claims claims, long expiresAtMillis) {
+    }
+}